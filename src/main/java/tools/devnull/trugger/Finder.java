@@ -46,4 +46,17 @@ public interface Finder<T> {
    */
   Result<List<T>, Object> findAll();
 
+  /**
+   * Finds all objects in a target without binding them to it, so they can be
+   * used with any other target of the same type.
+   * <p>
+   * The default implementation is {@link #findAll()}.
+   *
+   * @return the component for selecting the target.
+   * @since 5.2
+   */
+  default Result<List<T>, Object> findAllUnbound() {
+    return findAll();
+  }
+
 }
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger;
+
+/**
+ * Helper for the default primitive accessors of {@link ValueHandler}.
+ * <p>
+ * The values are converted using the same widening conversions allowed by
+ * {@link java.lang.reflect.Field#getInt(Object)} and the other primitive
+ * getters of {@link java.lang.reflect.Field}, so an <code>int</code> can be
+ * read as a <code>long</code> but a <code>long</code> can't be read as an
+ * <code>int</code>.
+ *
+ * @since 5.2
+ */
+final class PrimitiveValues {
+
+  private PrimitiveValues() {
+  }
+
+  static boolean booleanValue(ValueHandler handler) {
+    Object value = read(handler, "boolean");
+    if (value instanceof Boolean) {
+      return (Boolean) value;
+    }
+    throw mismatch(handler, value, "boolean");
+  }
+
+  static byte byteValue(ValueHandler handler) {
+    return asByte(handler, read(handler, "byte"), "byte");
+  }
+
+  static short shortValue(ValueHandler handler) {
+    return asShort(handler, read(handler, "short"), "short");
+  }
+
+  static char charValue(ValueHandler handler) {
+    Object value = read(handler, "char");
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    throw mismatch(handler, value, "char");
+  }
+
+  static int intValue(ValueHandler handler) {
+    return asInt(handler, read(handler, "int"), "int");
+  }
+
+  static long longValue(ValueHandler handler) {
+    return asLong(handler, read(handler, "long"), "long");
+  }
+
+  static float floatValue(ValueHandler handler) {
+    return asFloat(handler, read(handler, "float"), "float");
+  }
+
+  static double doubleValue(ValueHandler handler) {
+    Object value = read(handler, "double");
+    if (value instanceof Double) {
+      return (Double) value;
+    }
+    return asFloat(handler, value, "double");
+  }
+
+  private static byte asByte(ValueHandler handler, Object value,
+                             String primitive) {
+    if (value instanceof Byte) {
+      return (Byte) value;
+    }
+    throw mismatch(handler, value, primitive);
+  }
+
+  private static short asShort(ValueHandler handler, Object value,
+                               String primitive) {
+    if (value instanceof Short) {
+      return (Short) value;
+    }
+    return asByte(handler, value, primitive);
+  }
+
+  private static int asInt(ValueHandler handler, Object value,
+                           String primitive) {
+    if (value instanceof Integer) {
+      return (Integer) value;
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    return asShort(handler, value, primitive);
+  }
+
+  private static long asLong(ValueHandler handler, Object value,
+                             String primitive) {
+    if (value instanceof Long) {
+      return (Long) value;
+    }
+    return asInt(handler, value, primitive);
+  }
+
+  private static float asFloat(ValueHandler handler, Object value,
+                               String primitive) {
+    if (value instanceof Float) {
+      return (Float) value;
+    }
+    return asLong(handler, value, primitive);
+  }
+
+  // reads the value of the handler, which can't be null
+  private static Object read(ValueHandler handler, String primitive) {
+    Object value = handler.value();
+    if (value == null) {
+      throw new HandlingException(
+          "Cannot read a null value as " + primitive + " from " + handler);
+    }
+    return value;
+  }
+
+  private static HandlingException mismatch(ValueHandler handler, Object value,
+                                            String primitive) {
+    return new HandlingException("Cannot read a " + value.getClass().getName()
+        + " as " + primitive + " from " + handler);
+  }
+
+}
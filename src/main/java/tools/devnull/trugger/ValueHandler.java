@@ -19,6 +19,9 @@ package tools.devnull.trugger;
 /**
  * Interface that defines a component for handling, modifying and/or accessing a
  * value according to the implementation behavior.
+ * <p>
+ * The primitive accessors allow implementations to read and write primitive
+ * values without boxing them.
  * 
  * @author Marcelo Guimarães
  */
@@ -42,5 +45,269 @@ public interface ValueHandler {
    *           if anything go wrong
    */
   void set(Object value) throws HandlingException;
-  
+
+  /**
+   * Tries to get the value as a <code>boolean</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default boolean booleanValue() throws HandlingException {
+    return PrimitiveValues.booleanValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>byte</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default byte byteValue() throws HandlingException {
+    return PrimitiveValues.byteValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>short</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default short shortValue() throws HandlingException {
+    return PrimitiveValues.shortValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>char</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default char charValue() throws HandlingException {
+    return PrimitiveValues.charValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>int</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default int intValue() throws HandlingException {
+    return PrimitiveValues.intValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>long</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default long longValue() throws HandlingException {
+    return PrimitiveValues.longValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>float</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default float floatValue() throws HandlingException {
+    return PrimitiveValues.floatValue(this);
+  }
+
+  /**
+   * Tries to get the value as a <code>double</code>.
+   * <p>
+   * The default implementation unboxes the result of {@link #value()},
+   * allowing the same widening conversions of the primitive getters of
+   * {@link java.lang.reflect.Field}.
+   *
+   * @return the value.
+   * @throws HandlingException
+   *           if anything go wrong or if the value is <code>null</code> or
+   *           can't be widened to the requested type.
+   * @since 5.2
+   */
+  default double doubleValue() throws HandlingException {
+    return PrimitiveValues.doubleValue(this);
+  }
+
+  /**
+   * Tries to set a <code>boolean</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setBoolean(boolean value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>byte</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setByte(byte value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>short</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setShort(short value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>char</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setChar(char value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>int</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setInt(int value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>long</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setLong(long value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>float</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setFloat(float value) throws HandlingException {
+    set((Object) value);
+  }
+
+  /**
+   * Tries to set a <code>double</code> value.
+   * <p>
+   * The default implementation boxes the value and passes it to
+   * {@link #set(Object)}.
+   *
+   * @param value
+   *          the value to set.
+   * @throws HandlingException
+   *           if anything go wrong.
+   * @since 5.2
+   */
+  default void setDouble(double value) throws HandlingException {
+    set((Object) value);
+  }
+
 }
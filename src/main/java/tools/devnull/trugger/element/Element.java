@@ -70,6 +70,34 @@ public interface Element extends AnnotatedElement, Result<ValueHandler, Object>,
    */
   ValueHandler in(Object target);
 
+  /**
+   * Reads the value of this element in the given target without creating a
+   * {@link ValueHandler}.
+   * <p>
+   * The default implementation uses {@link #in(Object)}.
+   *
+   * @param target the target that contains this element.
+   * @return the value of this element in the given target.
+   * @since 5.2
+   */
+  default <E> E valueIn(Object target) throws HandlingException {
+    return in(target).value();
+  }
+
+  /**
+   * Changes the value of this element in the given target without creating a
+   * {@link ValueHandler}.
+   * <p>
+   * The default implementation uses {@link #in(Object)}.
+   *
+   * @param target the target that contains this element.
+   * @param value  the new value.
+   * @since 5.2
+   */
+  default void setIn(Object target, Object value) throws HandlingException {
+    in(target).set(value);
+  }
+
   /**
    * Checks if this element is specific for a target. If this method returns
    * <code>true</code>, then the methods {@link #value()} and
@@ -17,11 +17,19 @@
 package tools.devnull.trugger.element;
 
 import tools.devnull.trugger.Finder;
+import tools.devnull.trugger.scan.ClassScan;
+import tools.devnull.trugger.util.ClassBatch;
 import tools.devnull.trugger.util.ImplementationLoader;
+import tools.devnull.trugger.util.cache.ClassCache;
 import tools.devnull.trugger.util.registry.Registry;
 import tools.devnull.trugger.selector.ElementSelector;
 import tools.devnull.trugger.selector.ElementsSelector;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -77,6 +85,52 @@ public class Elements {
     return new SingleElementSelector();
   }
 
+  /**
+   * Loads the elements of the given classes in parallel, so the first uses of
+   * these classes don't pay for their introspection.
+
+   * <p>
+   * The caches keep at most {@link ClassCache#DEFAULT_MAXIMUM_SIZE} classes
+   * and evict the oldest ones when they grow beyond it, so a larger batch
+   * can't be kept entirely and is refused.
+   *
+   * @param classes the classes to load
+   * @return the time spent on each class.
+   * @throws IllegalArgumentException if there are more classes than the
+   *                                  caches can keep
+   * @since 5.2
+   */
+  public static Map<Class<?>, Duration> warmUp(
+      Collection<? extends Class<?>> classes) {
+    ClassBatch.checkSize(classes, ClassCache.DEFAULT_MAXIMUM_SIZE);
+    return ClassBatch.time(classes, type -> {
+      try {
+        elements().in(type);
+      } catch (RuntimeException | LinkageError e) {
+        // the error will be raised on the first use
+      }
+    });
+  }
+
+  /**
+   * Loads the elements of the classes in the given package and its
+   * subpackages.
+   *
+   * @param packageName the package to scan
+   * @return the time spent on each class.
+   * @throws IllegalArgumentException if the package has more classes than
+   *                                  the caches can keep
+   * @see #warmUp(Collection)
+   * @since 5.2
+   */
+  public static Map<Class<?>, Duration> warmUp(String packageName) {
+    List<Class<?>> classes = new ArrayList<>();
+    for (Class<?> type : ClassScan.scan().classes().deep().in(packageName)) {
+      classes.add(type);
+    }
+    return warmUp(classes);
+  }
+
   /**
    * Copies elements through objects.
    */
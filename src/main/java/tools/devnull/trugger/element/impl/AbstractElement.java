@@ -19,6 +19,7 @@ package tools.devnull.trugger.element.impl;
 import tools.devnull.trugger.HandlingException;
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.element.NonSpecificElementException;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 import tools.devnull.trugger.util.Null;
 
 import java.lang.annotation.Annotation;
@@ -29,12 +30,14 @@ import java.lang.reflect.AnnotatedElement;
  *
  * @author Marcelo Guimarães
  */
-public abstract class AbstractElement implements Element {
+public abstract class AbstractElement implements Element,
+    AnnotationIndex.Holder {
 
   /**
    * The element for retrieving annotation metadata.
    */
   protected AnnotatedElement annotatedElement = Null.NULL_ANNOTATED_ELEMENT;
+  private volatile AnnotationIndex annotationIndex;
   /**
    * The element name
    */
@@ -60,7 +63,7 @@ public abstract class AbstractElement implements Element {
 
   @Override
   public final <T extends Annotation> T getAnnotation(Class<T> annotationClass) {
-    return annotatedElement.getAnnotation(annotationClass);
+    return annotationIndex().get(annotationClass);
   }
 
   @Override
@@ -75,7 +78,21 @@ public abstract class AbstractElement implements Element {
 
   @Override
   public final boolean isAnnotationPresent(Class<? extends Annotation> annotationClass) {
-    return annotatedElement.isAnnotationPresent(annotationClass);
+    return annotationIndex().isPresent(annotationClass);
+  }
+
+  /**
+   * Returns the index of the annotations of the {@link #annotatedElement}.
+   * The index is resolved once and kept by this element.
+   */
+  @Override
+  public final AnnotationIndex annotationIndex() {
+    AnnotationIndex index = annotationIndex;
+    if (index == null) {
+      index = AnnotationIndex.of(annotatedElement);
+      annotationIndex = index;
+    }
+    return index;
   }
 
   @Override
@@ -91,7 +108,7 @@ public abstract class AbstractElement implements Element {
   @Override
   public void set(Object value) throws HandlingException {
     if (isSpecific()) {
-      in(target()).set(value);
+      setIn(target(), value);
     } else {
       throw new NonSpecificElementException();
     }
@@ -100,7 +117,7 @@ public abstract class AbstractElement implements Element {
   @Override
   public <E> E value() throws HandlingException {
     if (isSpecific()) {
-      return in(target()).value();
+      return valueIn(target());
     }
     throw new NonSpecificElementException();
   }
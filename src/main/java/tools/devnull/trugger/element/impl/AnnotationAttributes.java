@@ -0,0 +1,251 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The attributes of an annotation type, with a snapshot of the attribute
+ * values of each annotation instance.
+ * <p>
+ * Each attribute has a slot in the snapshot, so reading an attribute is an
+ * array load instead of a call to the annotation proxy. The snapshots are
+ * weakly referenced by the annotation instances (compared by identity) and
+ * array values are copied on each read to keep the snapshots immutable.
+ * <p>
+ * Attributes that hold classes or annotations are not part of the snapshot
+ * and are read from the annotation each time, since their values may come
+ * from other class loaders that the cached attributes would keep alive.
+ * <p>
+ * The snapshot of the last annotation read (weakly referenced) is checked
+ * first without any allocation; the snapshots of other annotations are found
+ * through an identity lookup.
+ *
+ * @since 5.2
+ */
+final class AnnotationAttributes {
+
+  private static final ClassCache<AnnotationAttributes> attributes =
+      ClassCache.create("annotation attributes", 500, AnnotationAttributes::new);
+
+  private final Class<?> annotationType;
+  private final Method[] methods;
+  // the slots that are read from the annotation instead of the snapshot
+  private final boolean[] live;
+  private final Map<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  private volatile Reference<Snapshot> last;
+
+  private AnnotationAttributes(Class<?> annotationType) {
+    this.annotationType = annotationType;
+    List<Method> methods = new ArrayList<>();
+    for (Method method : annotationType.getDeclaredMethods()) {
+      if (isAttribute(method)) {
+        methods.add(method);
+      }
+    }
+    this.methods = methods.toArray(new Method[methods.size()]);
+    this.live = new boolean[this.methods.length];
+    for (int i = 0; i < live.length; i++) {
+      live[i] = isLive(this.methods[i].getReturnType());
+    }
+  }
+
+  private static boolean isLive(Class<?> type) {
+    Class<?> valueType = type.isArray() ? type.getComponentType() : type;
+    return valueType == Class.class || valueType.isAnnotation();
+  }
+
+  private static boolean isAttribute(Method method) {
+    return method.getParameterCount() == 0 && !method.isSynthetic()
+        && !Modifier.isStatic(method.getModifiers());
+  }
+
+  /**
+   * @return the attributes of the annotation type that declares the given
+   * method
+   */
+  static AnnotationAttributes of(Method method) {
+    return attributes.get(method.getDeclaringClass());
+  }
+
+  /**
+   * @return the slot of the given method or <code>-1</code> if it is not an
+   * attribute of this annotation type
+   */
+  int slotOf(Method method) {
+    for (int i = 0; i < methods.length; i++) {
+      if (methods[i].equals(method)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return <code>true</code> if the given target is an annotation of this
+   * type
+   */
+  boolean accepts(Object target) {
+    return target instanceof Annotation && annotationType.isInstance(target);
+  }
+
+  /**
+   * Returns the value of the attribute in the given slot.
+   *
+   * @param annotation the annotation instance
+   * @param slot       the slot of the attribute
+   * @return the value of the attribute
+   * @throws HandlingException if the annotation proxy failed to return the
+   *                           value
+   */
+  Object valueOf(Object annotation, int slot) {
+    Object value = live[slot] ?
+        read(annotation, methods[slot]) : snapshotOf(annotation)[slot];
+    if (value instanceof Failure) {
+      throw new HandlingException(((Failure) value).cause);
+    }
+    if (value != null && value.getClass().isArray()) {
+      return copyOf(value);
+    }
+    return value;
+  }
+
+  private Object[] snapshotOf(Object annotation) {
+    Reference<Snapshot> reference = last;
+    Snapshot snapshot = reference != null ? reference.get() : null;
+    if (snapshot != null && snapshot.key.get() == annotation) {
+      return snapshot.values;
+    }
+    snapshot = snapshots.get(new Key(annotation, null));
+    if (snapshot == null) {
+      expungeStaleEntries();
+      Key key = new Key(annotation, queue);
+      snapshot = new Snapshot(key, takeSnapshot(annotation));
+      Snapshot previous = snapshots.putIfAbsent(key, snapshot);
+      if (previous != null) {
+        snapshot = previous;
+      }
+    }
+    last = new WeakReference<>(snapshot);
+    return snapshot.values;
+  }
+
+  private Object[] takeSnapshot(Object annotation) {
+    Object[] snapshot = new Object[methods.length];
+    for (int i = 0; i < methods.length; i++) {
+      if (!live[i]) {
+        snapshot[i] = read(annotation, methods[i]);
+      }
+    }
+    return snapshot;
+  }
+
+  private static Object read(Object annotation, Method method) {
+    try {
+      return method.invoke(annotation);
+    } catch (InvocationTargetException e) {
+      return new Failure(e.getCause());
+    } catch (Exception e) {
+      return new Failure(e);
+    }
+  }
+
+  private void expungeStaleEntries() {
+    Reference<?> reference;
+    while ((reference = queue.poll()) != null) {
+      snapshots.remove(reference);
+    }
+  }
+
+  private static Object copyOf(Object array) {
+    int length = Array.getLength(array);
+    Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+    System.arraycopy(array, 0, copy, 0, length);
+    return copy;
+  }
+
+  // the attribute values of an annotation
+  private static class Snapshot {
+
+    private final Key key;
+    private final Object[] values;
+
+    private Snapshot(Key key, Object[] values) {
+      this.key = key;
+      this.values = values;
+    }
+
+  }
+
+  // an attribute that could not be read
+  private static class Failure {
+
+    private final Throwable cause;
+
+    private Failure(Throwable cause) {
+      this.cause = cause;
+    }
+
+  }
+
+  // a weak reference to an annotation compared by identity
+  private static class Key extends WeakReference<Object> {
+
+    private final int hash;
+
+    private Key(Object annotation, ReferenceQueue<Object> queue) {
+      super(annotation, queue);
+      this.hash = System.identityHashCode(annotation);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Object referent = get();
+      return referent != null && referent == ((Key) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+}
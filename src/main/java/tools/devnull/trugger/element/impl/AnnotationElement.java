@@ -32,6 +32,8 @@ import java.lang.reflect.Method;
 public final class AnnotationElement extends AbstractElement implements Element {
 
   private Method method;
+  private final AnnotationAttributes attributes;
+  private final int slot;
 
   /**
    * Creates a new AnnotationProperty based on the given method.
@@ -43,6 +45,8 @@ public final class AnnotationElement extends AbstractElement implements Element
     super(method.getName());
     this.method = method;
     this.annotatedElement = method;
+    this.attributes = AnnotationAttributes.of(method);
+    this.slot = attributes.slotOf(method);
   }
 
   @Override
@@ -51,23 +55,26 @@ public final class AnnotationElement extends AbstractElement implements Element
   }
 
   public ValueHandler in(final Object target) {
-    return new ValueHandler() {
-
-      public <E> E value() throws HandlingException {
-        try {
-          return (E) method.invoke(target);
-        } catch (InvocationTargetException e) {
-          throw new HandlingException(e.getCause());
-        } catch (Exception e) {
-          throw new HandlingException(e);
-        }
-      }
+    return new BoundValueHandler(this, target);
+  }
 
-      public void set(Object value) throws HandlingException {
-        throw new UnwritableElementException(name());
-      }
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    if (slot >= 0 && attributes.accepts(target)) {
+      return (E) attributes.valueOf(target, slot);
+    }
+    try {
+      return (E) method.invoke(target);
+    } catch (InvocationTargetException e) {
+      throw new HandlingException(e.getCause());
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
 
-    };
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    throw new UnwritableElementException(name());
   }
 
   public Class<?> declaringClass() {
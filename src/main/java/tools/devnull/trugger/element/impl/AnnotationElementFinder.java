@@ -38,7 +38,7 @@ import static tools.devnull.trugger.reflection.Reflection.methods;
  */
 public final class AnnotationElementFinder implements Finder<Element> {
 
-  private ClassElementsCache cache = new ClassElementsCache() {
+  private ClassElementsCache cache = new ClassElementsCache("annotation elements") {
     @Override
     protected void loadElements(Class type, Map<String, Element> map) {
       List<Method> declaredMethods = methods().in(type);
@@ -50,6 +50,11 @@ public final class AnnotationElementFinder implements Finder<Element> {
     }
   };
 
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> new ArrayList<>(cache.get(target));
+  }
+
   public Result<List<Element>, Object> findAll() {
     return target -> {
       Collection<Element> elements = cache.get(target);
@@ -74,17 +74,17 @@ public class ArrayElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(final Object array) {
-    return new ValueHandler() {
-      @Override
-      public <E> E value() throws HandlingException {
-        return (E) Array.get(array, index);
-      }
-
-      @Override
-      public void set(Object value) throws HandlingException {
-        Array.set(array, index, value);
-      }
-    };
+    return new BoundValueHandler(this, array);
+  }
+
+  @Override
+  public <E> E valueIn(Object array) throws HandlingException {
+    return (E) Array.get(array, index);
+  }
+
+  @Override
+  public void setIn(Object array, Object value) throws HandlingException {
+    Array.set(array, index, value);
   }
 
 }
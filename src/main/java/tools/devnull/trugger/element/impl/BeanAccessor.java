@@ -0,0 +1,295 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.reflection.Reflection;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * The accessors of the elements of a bean class, addressed by the slot of
+ * each element.
+ * <p>
+ * Public getters and setters of public classes are linked through the
+ * {@link LambdaMetafactory}, which generates a class that calls them directly.
+ * The other accessors (and the fields) use a {@link MethodHandle}. Elements
+ * that cannot be linked keep using the Reflection API.
+ * <p>
+ * The generated accessors are kept with the class that declares the method,
+ * so evicting the elements of a class from the caches doesn't generate new
+ * classes for the same methods.
+ * <p>
+ * The accessors are only used if the system property
+ * <code>trugger.element.generatedAccessors</code> is <code>true</code>.
+ *
+ * @since 5.2
+ */
+final class BeanAccessor {
+
+  /**
+   * The system property that enables the generated accessors.
+   */
+  static final String PROPERTY = "trugger.element.generatedAccessors";
+
+  private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+  private static final MethodType GETTER_TYPE =
+      methodType(Object.class, Object.class);
+  private static final MethodType SETTER_TYPE =
+      methodType(void.class, Object.class, Object.class);
+
+  private static final ClassValue<Map<Method, Getter>> generatedGetters =
+      new ClassValue<Map<Method, Getter>>() {
+        @Override
+        protected Map<Method, Getter> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+  private static final ClassValue<Map<Method, Setter>> generatedSetters =
+      new ClassValue<Map<Method, Setter>>() {
+        @Override
+        protected Map<Method, Setter> computeValue(Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  private final Getter[] getters;
+  private final Setter[] setters;
+
+  private BeanAccessor(List<ObjectElement> elements) {
+    this.getters = new Getter[elements.size()];
+    this.setters = new Setter[elements.size()];
+    for (int i = 0; i < getters.length; i++) {
+      ObjectElement element = elements.get(i);
+      getters[i] = getterFor(element, true);
+      setters[i] = setterFor(element, true);
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the generated accessors are enabled.
+   */
+  static boolean isEnabled() {
+    return Boolean.getBoolean(PROPERTY);
+  }
+
+  /**
+   * Creates the accessor for the given elements of a class and attaches it to
+   * each element.
+   *
+   * @return the created accessor, which uses the index of each element in the
+   * given list as its slot
+   */
+  static BeanAccessor attach(List<ObjectElement> elements) {
+    BeanAccessor accessor = new BeanAccessor(elements);
+    for (int i = 0; i < elements.size(); i++) {
+      elements.get(i).useAccessor(accessor, i);
+    }
+    return accessor;
+  }
+
+  /**
+   * @return <code>true</code> if the element in the given slot can be read
+   * through this accessor
+   */
+  boolean canGet(int slot) {
+    return getters[slot] != null;
+  }
+
+  /**
+   * @return <code>true</code> if the element in the given slot can be written
+   * through this accessor
+   */
+  boolean canSet(int slot) {
+    return setters[slot] != null;
+  }
+
+  /**
+   * Reads the value of the element in the given slot.
+   */
+  Object get(Object target, int slot) {
+    try {
+      return getters[slot].get(target);
+    } catch (Throwable e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  /**
+   * Writes the value of the element in the given slot.
+   */
+  void set(Object target, int slot, Object value) {
+    try {
+      setters[slot].set(target, value);
+    } catch (Throwable e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  /**
+   * Links the getter (or the field) of the given element.
+   *
+   * @param element   the element
+   * @param generated if a class may be generated for public getters,
+   *                  otherwise only method handles are used
+   * @return the linked getter or <code>null</code> if the element must be
+   * read through the Reflection API
+   */
+  static Getter getterFor(ObjectElement element, boolean generated) {
+    try {
+      Method getter = element.getter();
+      if (getter != null) {
+        if (generated && isLinkable(getter)) {
+          return generated(generatedGetters, getter, Getter.class, "get",
+              GETTER_TYPE);
+        }
+        Reflection.setAccessible(getter);
+        return adapt(lookup.unreflect(getter));
+      }
+      Field field = element.field();
+      if (field != null && element.isReadable()) {
+        Reflection.setAccessible(field);
+        return adapt(lookup.unreflectGetter(field));
+      }
+    } catch (ReflectiveOperationException | LambdaConversionException |
+        RuntimeException e) {
+      // uses the Reflection API
+    }
+    return null;
+  }
+
+  /**
+   * Links the setter (or the field) of the given element.
+   *
+   * @param element   the element
+   * @param generated if a class may be generated for public setters,
+   *                  otherwise only method handles are used
+   * @return the linked setter or <code>null</code> if the element must be
+   * written through the Reflection API
+   */
+  static Setter setterFor(ObjectElement element, boolean generated) {
+    try {
+      Method setter = element.setter();
+      if (setter != null) {
+        if (generated && isLinkable(setter)) {
+          return generated(generatedSetters, setter, Setter.class, "set",
+              SETTER_TYPE);
+        }
+        Reflection.setAccessible(setter);
+        return adaptSetter(lookup.unreflect(setter));
+      }
+      Field field = element.field();
+      if (field != null && element.isWritable()) {
+        Reflection.setAccessible(field);
+        return adaptSetter(lookup.unreflectSetter(field));
+      }
+    } catch (ReflectiveOperationException | LambdaConversionException |
+        RuntimeException e) {
+      // uses the Reflection API
+    }
+    return null;
+  }
+
+  // generates the accessor only once for each method
+  private static <T> T generated(ClassValue<Map<Method, T>> cache,
+                                 Method method, Class<T> type, String name,
+                                 MethodType erasedType)
+      throws IllegalAccessException, LambdaConversionException {
+    Map<Method, T> accessors = cache.get(method.getDeclaringClass());
+    T accessor = accessors.get(method);
+    if (accessor == null) {
+      accessor = generate(type, name, erasedType, lookup.unreflect(method));
+      T previous = accessors.putIfAbsent(method, accessor);
+      if (previous != null) {
+        return previous;
+      }
+    }
+    return accessor;
+  }
+
+  private static <T> T generate(Class<T> type, String name,
+                                MethodType erasedType, MethodHandle handle)
+      throws LambdaConversionException {
+    MethodType instantiatedType = handle.type().wrap();
+    if (erasedType.returnType() == void.class) {
+      instantiatedType = instantiatedType.changeReturnType(void.class);
+    }
+    MethodHandle factory = LambdaMetafactory.metafactory(lookup, name,
+        methodType(type), erasedType, handle, instantiatedType).getTarget();
+    try {
+      return type.cast(factory.invoke());
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      // the factory of a non-capturing lambda doesn't throw checked exceptions
+      throw new LambdaConversionException(e);
+    }
+  }
+
+  private static Getter adapt(MethodHandle handle) {
+    MethodHandle adapted = handle.asType(GETTER_TYPE);
+    return target -> (Object) adapted.invokeExact(target);
+  }
+
+  private static Setter adaptSetter(MethodHandle handle) {
+    MethodHandle adapted = handle.asType(SETTER_TYPE);
+    return (target, value) -> {
+      adapted.invokeExact(target, value);
+    };
+  }
+
+  // checks if a generated class can call the member directly
+  private static boolean isLinkable(Method method) {
+    Class<?> type = method.getDeclaringClass();
+    if (!Modifier.isPublic(method.getModifiers()) ||
+        !Modifier.isPublic(type.getModifiers()) || Reflection.isStatic(method)) {
+      return false;
+    }
+    try {
+      ClassLoader classLoader = BeanAccessor.class.getClassLoader();
+      return Class.forName(type.getName(), false, classLoader) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  interface Getter {
+
+    Object get(Object target) throws Throwable;
+
+  }
+
+  interface Setter {
+
+    void set(Object target, Object value) throws Throwable;
+
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import tools.devnull.trugger.reflection.Reflection;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static tools.devnull.trugger.reflection.MethodPredicates.getter;
+import static tools.devnull.trugger.reflection.MethodPredicates.setter;
+import static tools.devnull.trugger.reflection.Reflection.reflect;
+
+/**
+ * The fields, getters and setters of a class indexed by the property name in
+ * a single pass, so the elements of a class can pair their members without
+ * searching the class hierarchy for each property.
+ *
+ * @since 5.2
+ */
+final class BeanIntrospector {
+
+  private final Class<?> type;
+  private final List<Field> fields;
+  private final Map<String, Field> fieldsByName;
+  private final Map<String, List<Method>> getters = new HashMap<>();
+  private final Map<String, List<Method>> setters = new HashMap<>();
+
+  /**
+   * Indexes the fields declared by the given class and the getters and
+   * setters of its whole hierarchy.
+   */
+  BeanIntrospector(Class<?> type) {
+    this.type = type;
+    this.fields = reflect().fields().in(type);
+    this.fieldsByName = new HashMap<>(fields.size() * 2);
+    for (Field field : fields) {
+      fieldsByName.put(field.getName(), field);
+    }
+    List<Method> methods = reflect().methods().deep()
+        .filter(getter().or(setter())).in(type);
+    for (Method method : methods) {
+      Map<String, List<Method>> index =
+          method.getParameterCount() == 0 ? getters : setters;
+      index.computeIfAbsent(Reflection.parsePropertyName(method),
+          name -> new ArrayList<>(1)).add(method);
+    }
+  }
+
+  /**
+   * @return the introspected class
+   */
+  Class<?> type() {
+    return type;
+  }
+
+  /**
+   * @return the fields declared by the class
+   */
+  List<Field> fields() {
+    return Collections.unmodifiableList(fields);
+  }
+
+  /**
+   * @return the field declared by the class with the given name or
+   * <code>null</code> if there is no such field
+   */
+  Field field(String name) {
+    return fieldsByName.get(name);
+  }
+
+  /**
+   * @return the first getter of the given property that returns the given
+   * type or <code>null</code> if there is no such getter
+   */
+  Method getterOf(String name, Class<?> propertyType) {
+    for (Method method : getters.getOrDefault(name, Collections.emptyList())) {
+      if (method.getReturnType().equals(propertyType)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return the first setter of the given property that takes the given type
+   * or <code>null</code> if there is no such setter
+   */
+  Method setterOf(String name, Class<?> propertyType) {
+    for (Method method : setters.getOrDefault(name, Collections.emptyList())) {
+      if (method.getParameterTypes()[0].equals(propertyType)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+}
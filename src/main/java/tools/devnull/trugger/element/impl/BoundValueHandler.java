@@ -0,0 +1,57 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.ValueHandler;
+import tools.devnull.trugger.element.Element;
+import tools.devnull.trugger.util.Utils;
+
+/**
+ * A handler for the value of an element in a target that delegates to
+ * {@link Element#valueIn(Object)} and {@link Element#setIn(Object, Object)}.
+ *
+ * @since 5.2
+ */
+final class BoundValueHandler implements ValueHandler {
+
+  private final Element element;
+  private final Object target;
+
+  BoundValueHandler(Element element, Object target) {
+    this.element = element;
+    this.target = target;
+  }
+
+  @Override
+  public <E> E value() throws HandlingException {
+    return element.valueIn(target);
+  }
+
+  @Override
+  public void set(Object value) throws HandlingException {
+    element.setIn(target, value);
+  }
+
+  @Override
+  public String toString() {
+    return element.name() + " in " +
+        (target != null ? Utils.resolveType(target).getName() : null);
+  }
+
+}
@@ -18,39 +18,45 @@ package tools.devnull.trugger.element.impl;
 
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
-import java.lang.ref.SoftReference;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
 
 /**
+ * A cache of the elements of each class, kept in a bounded {@link ClassCache}
+ * so the classes can be unloaded. The elements of a class are loaded by a
+ * single thread and published only after the map is complete.
+ *
  * @author Marcelo Guimarães
  * @since 4.0
  */
 public abstract class ClassElementsCache {
 
-  private SoftReference<Map<Class, Map<String, Element>>> ref;
+  private final ClassCache<Map<String, Element>> cache;
 
   public ClassElementsCache() {
-    this.ref = new SoftReference<>(new ConcurrentHashMap<>(50));
+    this("elements");
   }
 
-  private Map<String, Element> getMap(Object target) {
-    Class type = Utils.resolveType(target);
-    Map<Class, Map<String, Element>> map = ref.get();
-    if (map == null) {
-      map = new ConcurrentHashMap<>(50);
-      this.ref = new SoftReference<>(map);
-    }
-    Map<String, Element> elementMap = map.get(type);
-    if (elementMap == null) {
-      elementMap = new HashMap<>(20);
+  /**
+   * @param name the name of the cache
+   * @since 5.2
+   */
+  public ClassElementsCache(String name) {
+    this.cache = ClassCache.create(name, DEFAULT_MAXIMUM_SIZE, type -> {
+      Map<String, Element> elementMap = new HashMap<>(20);
       loadElements(type, elementMap);
-      map.put(type, elementMap);
-    }
-    return elementMap;
+      return Collections.unmodifiableMap(elementMap);
+    });
+  }
+
+  private Map<String, Element> getMap(Object target) {
+    return cache.get(Utils.resolveType(target));
   }
 
   public Collection get(Object target) {
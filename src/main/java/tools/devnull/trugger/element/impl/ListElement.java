@@ -71,25 +71,25 @@ public class ListElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(final Object list) {
-    return new ValueHandler() {
-      @Override
-      public <E> E value() throws HandlingException {
-        try {
-          return (E) ((List) list).get(index);
-        } catch (Exception e) {
-          throw new HandlingException(e);
-        }
-      }
-
-      @Override
-      public void set(Object value) throws HandlingException {
-        try {
-          ((List) list).set(index, value);
-        } catch (Exception e) {
-          throw new HandlingException(e);
-        }
-      }
-    };
+    return new BoundValueHandler(this, list);
+  }
+
+  @Override
+  public <E> E valueIn(Object list) throws HandlingException {
+    try {
+      return (E) ((List) list).get(index);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setIn(Object list, Object value) throws HandlingException {
+    try {
+      ((List) list).set(index, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
   }
 
 }
@@ -33,27 +33,30 @@ public class MapElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(Object target) {
-    if (target instanceof Map<?, ?>) {
-      final Map map = (Map) target;
-      return new ValueHandler() {
+    return new BoundValueHandler(this, mapOf(target));
+  }
+
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    Map map = mapOf(target);
+    if (map.containsKey(name)) {
+      return (E) map.get(name);
+    }
+    throw new HandlingException("Key '" + name + "' not present in target.");
+  }
 
-        @Override
-        public void set(Object value) throws HandlingException {
-          try {
-            map.put(name, value);
-          } catch (UnsupportedOperationException e) {
-            throw new HandlingException(e);
-          }
-        }
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    try {
+      mapOf(target).put(name, value);
+    } catch (UnsupportedOperationException e) {
+      throw new HandlingException(e);
+    }
+  }
 
-        @Override
-        public <E> E value() throws HandlingException {
-          if (map.containsKey(name)) {
-            return (E) map.get(name);
-          }
-          throw new HandlingException("Key '" + name + "' not present in target.");
-        }
-      };
+  private static Map mapOf(Object target) {
+    if (target instanceof Map<?, ?>) {
+      return (Map) target;
     }
     throw new IllegalArgumentException("Target is not a " + Map.class);
   }
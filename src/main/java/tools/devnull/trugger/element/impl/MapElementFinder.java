@@ -29,19 +29,27 @@ public class MapElementFinder implements Finder<Element> {
   
   @Override
   public Result<List<Element>, Object> findAll() {
-    return target -> {
-      if (target instanceof Class<?>) {
-        return Collections.emptyList();
-      }
-      List<Element> properties = new ArrayList<>();
-      Map map = (Map) target;
-      for (Object key : map.keySet()) {
-        if (key instanceof String) {
-          properties.add(new SpecificElement(new MapElement((String) key), map));
-        }
+    return target -> elementsOf(target, true);
+  }
+
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> elementsOf(target, false);
+  }
+
+  private List<Element> elementsOf(Object target, boolean bind) {
+    if (target instanceof Class<?>) {
+      return Collections.emptyList();
+    }
+    List<Element> properties = new ArrayList<>();
+    Map map = (Map) target;
+    for (Object key : map.keySet()) {
+      if (key instanceof String) {
+        Element element = new MapElement((String) key);
+        properties.add(bind ? new SpecificElement(element, map) : element);
       }
-      return properties;
-    };
+    }
+    return properties;
   }
   
   @Override
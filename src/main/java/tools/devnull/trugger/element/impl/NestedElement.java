@@ -20,6 +20,7 @@ import tools.devnull.trugger.HandlingException;
 import tools.devnull.trugger.ValueHandler;
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.element.Elements;
+import tools.devnull.trugger.util.Utils;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,11 +38,22 @@ public final class NestedElement extends AbstractElement implements Element {
   /** the access path */
   private final List<Element> path;
   private final Object target;
+  /** the compiled path (null if the elements depend on the target values) */
+  private final PropertyPath propertyPath;
+  /** if the compiled path was reachable in the target when it was created */
+  private final boolean reachable;
 
   NestedElement(String name, List<Element> path, Object target) {
+    this(name, path, target, null, false);
+  }
+
+  NestedElement(String name, List<Element> path, Object target,
+                PropertyPath propertyPath, boolean reachable) {
     super(name);
     this.path = path;
     this.target = target;
+    this.propertyPath = propertyPath;
+    this.reachable = reachable;
     this.annotatedElement = getLast();
   }
 
@@ -85,29 +97,35 @@ public final class NestedElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(final Object target) {
-    return new ValueHandler(){
+    return new BoundValueHandler(this, target);
+  }
 
-      public <E> E value() throws HandlingException {
-      Object value = target;
-      for (Element property : getPath()) {
-        value = property.in(value).value();
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    Object value;
+    if (propertyPath != null) {
+      value = propertyPath.valueIn(target);
+    } else {
+      value = target;
+      for (int i = 0; i < path.size(); i++) {
+        value = path.get(i).valueIn(value);
       }
-      return (E) value;
     }
+    return (E) value;
+  }
 
-    public void set(Object value) throws HandlingException {
-      Object _source = target;
-      Element p;
-      for (int i = 0 ; ;) {
-        p = NestedElement.this.get(i);
-        if (++i < getPath().size()) {
-          _source = p.in(_source).value();
-        } else {
-          p.in(_source).set(value);
-          break;
-        }
-      }
-    }};
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    if (propertyPath != null) {
+      propertyPath.setIn(target, value);
+      return;
+    }
+    Object _source = target;
+    int last = path.size() - 1;
+    for (int i = 0; i < last; i++) {
+      _source = path.get(i).valueIn(_source);
+    }
+    path.get(last).setIn(_source, value);
   }
 
   /**
@@ -142,10 +160,23 @@ public final class NestedElement extends AbstractElement implements Element {
 
   @Override
   public boolean isSpecific() {
+    if (propertyPath != null) {
+      return reachable;
+    }
     return getLast().isSpecific();
   }
 
   static NestedElement createNestedElement(Object source, String elementsPath) {
+    PropertyPath propertyPath =
+        PropertyPath.of(Utils.resolveType(source), elementsPath);
+    if (propertyPath.isResolved()) {
+      // the elements were found in the declared types, so the element is
+      // specific only if the object that contains the last one is present
+      boolean reachable = source != null && !(source instanceof Class) &&
+          propertyPath.isReachable(source);
+      return new NestedElement(elementsPath, propertyPath.elements(), source,
+          propertyPath, reachable);
+    }
     String[] names = DOT_PATTERN.split(elementsPath);
     List<Element> path = new ArrayList<Element>(names.length);
     Element element;
@@ -20,13 +20,11 @@ import tools.devnull.trugger.HandlingException;
 import tools.devnull.trugger.ValueHandler;
 import tools.devnull.trugger.element.UnreadableElementException;
 import tools.devnull.trugger.element.UnwritableElementException;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 import tools.devnull.trugger.reflection.ReflectionException;
 
 import java.lang.reflect.*;
-import java.util.Collection;
-import java.util.function.Predicate;
 
-import static tools.devnull.trugger.reflection.MethodPredicates.*;
 import static tools.devnull.trugger.reflection.Reflection.*;
 
 /**
@@ -52,14 +50,28 @@ public final class ObjectElement extends AbstractElement {
   private Method setter;
   private Class<?> type;
   private Class<?> declaringClass;
+  private BeanAccessor accessor;
+  private int slot;
+  // the method handles of this element, linked on the first use
+  private volatile boolean linked;
+  private BeanAccessor.Getter reader;
+  private BeanAccessor.Setter writer;
 
   public ObjectElement(Field field) {
+    this(field, new BeanIntrospector(field.getDeclaringClass()));
+  }
+
+  /**
+   * Creates a new ObjectElement based on the specified field, pairing it with
+   * the getter and setter methods indexed by the given introspector.
+   */
+  ObjectElement(Field field, BeanIntrospector bean) {
     super(field.getName());
     this.field = field;
     this.type = field.getType();
     this.declaringClass = field.getDeclaringClass();
-    searchForGetter();
-    searchForSetter();
+    this.getter = bean.getterOf(name, type);
+    this.setter = bean.setterOf(name, type);
     this.type = getter != null ? getter.getReturnType() :
         setter != null ? setter.getParameterTypes()[0] : field.getType();
     searchForAnnotatedElement();
@@ -70,55 +82,98 @@ public final class ObjectElement extends AbstractElement {
    * or a setter.
    */
   public ObjectElement(Method method, String name) {
+    this(method, name, new BeanIntrospector(method.getDeclaringClass()));
+  }
+
+  /**
+   * Creates a new ObjectElement based on the specified method (a getter or a
+   * setter), pairing it with the members indexed by the given introspector.
+   */
+  ObjectElement(Method method, String name, BeanIntrospector bean) {
     super(name);
     declaringClass = method.getDeclaringClass();
     boolean isGetter = method.getParameterTypes().length == 0;
     if (isGetter) {
       getter = method;
       type = getter.getReturnType();
-      searchForSetter();
+      setter = bean.setterOf(name, type);
     } else {
       setter = method;
       type = setter.getParameterTypes()[0];
-      searchForGetter();
+      getter = bean.getterOf(name, type);
     }
-    field = reflect().field(name).in(declaringClass);
+    field = bean.field(name);
     searchForAnnotatedElement();
   }
 
   public ValueHandler in(final Object target) {
-    return new ValueHandler() {
-
-      public <E> E value() throws HandlingException {
-        if (!isReadable()) {
-          throw new UnreadableElementException(name);
-        }
-        try {
-          if (getter != null) {
-            return invoke(getter).in(target).withoutArgs();
-          } else {
-            return handle(field).in(target).value();
-          }
-        } catch (ReflectionException e) {
-          throw new HandlingException(e.getCause());
-        }
+    return new BoundValueHandler(this, target);
+  }
+
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    if (!isReadable()) {
+      throw new UnreadableElementException(name);
+    }
+    if (accessor != null && accessor.canGet(slot)) {
+      return (E) accessor.get(target, slot);
+    }
+    link();
+    if (reader != null) {
+      try {
+        return (E) reader.get(target);
+      } catch (Throwable e) {
+        throw new HandlingException(e);
+      }
+    }
+    try {
+      if (getter != null) {
+        return invoke(getter).in(target).withoutArgs();
+      } else {
+        return handle(field).in(target).value();
       }
+    } catch (ReflectionException e) {
+      throw new HandlingException(e.getCause());
+    }
+  }
 
-      public void set(Object value) throws HandlingException {
-        if (!isWritable()) {
-          throw new UnwritableElementException(name);
-        }
-        try {
-          if (setter != null) {
-            invoke(setter).in(target).withArgs(value);
-          } else {
-            handle(field).in(target).set(value);
-          }
-        } catch (ReflectionException e) {
-          throw new HandlingException(e.getCause());
-        }
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    if (!isWritable()) {
+      throw new UnwritableElementException(name);
+    }
+    if (accessor != null && accessor.canSet(slot)) {
+      accessor.set(target, slot, value);
+      return;
+    }
+    link();
+    if (writer != null) {
+      try {
+        writer.set(target, value);
+      } catch (Throwable e) {
+        throw new HandlingException(e);
       }
-    };
+      return;
+    }
+    try {
+      if (setter != null) {
+        invoke(setter).in(target).withArgs(value);
+      } else {
+        handle(field).in(target).set(value);
+      }
+    } catch (ReflectionException e) {
+      throw new HandlingException(e.getCause());
+    }
+  }
+
+  // resolves the method handles once, so reading and writing the value
+  // doesn't allocate an invoker or a handler on each use
+  private void link() {
+    if (!linked) {
+      reader = isReadable() ? BeanAccessor.getterFor(this, false) : null;
+      writer = isWritable() ? BeanAccessor.setterFor(this, false) : null;
+      linked = true;
+    }
   }
 
   public boolean isReadable() {
@@ -134,23 +189,40 @@ public final class ObjectElement extends AbstractElement {
     return declaringClass;
   }
 
-  @Override
-  public Class<?> type() {
-    return type;
+  /**
+   * @return the field of this element if it is accessed only through it (no
+   * getter or setter methods), or <code>null</code> otherwise.
+   */
+  Field plainField() {
+    return getter == null && setter == null ? field : null;
+  }
+
+  Field field() {
+    return field;
+  }
+
+  Method getter() {
+    return getter;
   }
 
-  private void searchForSetter() {
-    setter = searchMethod(setterOf(name).and(withParameters(type)));
+  Method setter() {
+    return setter;
   }
 
-  private void searchForGetter() {
-    getter = searchMethod(getterOf(name).and(returns(type)));
+  /**
+   * Uses the given accessor to read and write the value of this element.
+   *
+   * @param accessor the accessor of the elements of the declaring class
+   * @param slot     the slot of this element in the accessor
+   */
+  void useAccessor(BeanAccessor accessor, int slot) {
+    this.accessor = accessor;
+    this.slot = slot;
   }
 
-  private Method searchMethod(Predicate<Method> predicate) {
-    Collection<Method> candidates = reflect().methods().deep()
-        .filter(predicate).in(declaringClass);
-    return candidates.isEmpty() ? null : candidates.iterator().next();
+  @Override
+  public Class<?> type() {
+    return type;
   }
 
   private void searchForAnnotatedElement() {
@@ -164,7 +236,8 @@ public final class ObjectElement extends AbstractElement {
   }
 
   private static boolean isAnyAnnotationPresent(AnnotatedElement element) {
-    return (element != null) && (element.getAnnotations().length > 0);
+    return (element != null) &&
+        !AnnotationIndex.of(element).annotations().isEmpty();
   }
 
 }
@@ -20,15 +20,17 @@ import tools.devnull.trugger.Finder;
 import tools.devnull.trugger.Result;
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static tools.devnull.trugger.reflection.MethodPredicates.getter;
 import static tools.devnull.trugger.reflection.MethodPredicates.setter;
 import static tools.devnull.trugger.reflection.Reflection.*;
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
 
 /**
  * A default class for finding properties in objects.
@@ -37,38 +39,73 @@ import static tools.devnull.trugger.reflection.Reflection.*;
  */
 public final class ObjectElementFinder implements Finder<Element> {
 
-  private final ClassElementsCache cache = new ClassElementsCache() {
+  private final boolean generatedAccessors;
+
+  private final ClassElementsCache cache = new ClassElementsCache("object elements") {
     @Override
     protected void loadElements(Class type, Map<String, Element> map) {
-      loadUsingFields(type, map);
-      loadUsingMethods(type, map);
+      BeanIntrospector bean = new BeanIntrospector(type);
+      loadUsingFields(bean, map);
+      loadUsingMethods(bean, map);
+      if (generatedAccessors) {
+        List<ObjectElement> elements = new ArrayList<>(map.size());
+        for (Element element : map.values()) {
+          elements.add((ObjectElement) element);
+        }
+        BeanAccessor.attach(elements);
+      }
     }
 
-    private void loadUsingFields(Class type, Map<String, Element> map) {
-      List<Field> fields = fields().in(type);
-      for (Field field : fields) {
+    private void loadUsingFields(BeanIntrospector bean, Map<String, Element> map) {
+      for (Field field : bean.fields()) {
         if (!map.containsKey(field.getName())) {
-          ObjectElement prop = new ObjectElement(field);
+          ObjectElement prop = new ObjectElement(field, bean);
           map.put(prop.name(), prop);
         }
       }
     }
 
-    private void loadUsingMethods(Class type, Map<String, Element> map) {
+    private void loadUsingMethods(BeanIntrospector bean, Map<String, Element> map) {
       List<Method> declaredMethods = methods()
           .filter(
               getter().or(setter()))
-          .in(type);
+          .in(bean.type());
       for (Method method : declaredMethods) {
         String name = Reflection.parsePropertyName(method);
         if (!map.containsKey(name)) {
-          ObjectElement prop = new ObjectElement(method, name);
+          ObjectElement prop = new ObjectElement(method, name, bean);
           map.put(prop.name(), prop);
         }
       }
     }
   };
 
+  // the elements of each class merged with the ones of its superclasses
+  private final ClassCache<List<Element>> mergedElements =
+      ClassCache.create("merged object elements", DEFAULT_MAXIMUM_SIZE,
+          this::merge);
+
+  /**
+   * Creates a new finder that uses generated accessors only if the system
+   * property <code>trugger.element.generatedAccessors</code> is
+   * <code>true</code>.
+   */
+  public ObjectElementFinder() {
+    this(BeanAccessor.isEnabled());
+  }
+
+  /**
+   * Creates a new finder.
+   *
+   * @param generatedAccessors if the values of the elements should be
+   *                           handled through generated accessors instead of
+   *                           the Reflection API
+   * @since 5.2
+   */
+  public ObjectElementFinder(boolean generatedAccessors) {
+    this.generatedAccessors = generatedAccessors;
+  }
+
   public final Result<Element, Object> find(final String propertyName) {
     return target -> {
       for (Class type : hierarchyOf(target)) {
@@ -82,26 +119,47 @@ public final class ObjectElementFinder implements Finder<Element> {
     };
   }
 
+  /**
+   * Finds all elements of the target. The list returned for a class is
+   * immutable and shared by every call.
+   */
   public Result<List<Element>, Object> findAll() {
     return target -> {
-      final Map<String, Element> map = new HashMap<String, Element>();
-      for (Class type : hierarchyOf(target)) {
-        Collection<Element> properties = cache.get(type);
-        for (Element property : properties) {
-          String name = property.name();
-          //used in case of a property override
-          if (!map.containsKey(name)) {
-            map.put(name, property);
-          }
-        }
-      }
-      Collection<Element> elements = map.values();
+      List<Element> elements = mergedElements.get(Utils.resolveType(target));
       if (target instanceof Class<?>) {
-        return new ArrayList<>(elements);
+        return elements;
       }
-      return elements.stream().map(
-          element -> new SpecificElement(element, target)
-      ).collect(Collectors.toList());
+      List<Element> result = new ArrayList<>(elements.size());
+      for (Element element : elements) {
+        result.add(new SpecificElement(element, target));
+      }
+      return result;
     };
   }
+
+  /**
+   * Finds all elements of the target's class. The returned list is immutable
+   * and shared by every call.
+   */
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> mergedElements.get(Utils.resolveType(target));
+  }
+
+  private List<Element> merge(Class<?> type) {
+    final Map<String, Element> map = new HashMap<String, Element>();
+    for (Class superclass : hierarchyOf(type)) {
+      Collection<Element> properties = cache.get(superclass);
+      for (Element property : properties) {
+        String name = property.name();
+        //used in case of a property override
+        if (!map.containsKey(name)) {
+          map.put(name, property);
+        }
+      }
+    }
+    return Collections.unmodifiableList(
+        Arrays.asList(map.values().toArray(new Element[map.size()])));
+  }
+
 }
@@ -33,26 +33,29 @@ public class PropertiesElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(Object target) {
-    if (target instanceof Properties) {
-      final Properties props = (Properties) target;
-      return new ValueHandler() {
+    return new BoundValueHandler(this, propertiesOf(target));
+  }
 
-        @Override
-        public void set(Object value) throws HandlingException {
-          if (value != null) {
-            try {
-              props.setProperty(name, (String) value);
-            } catch (ClassCastException e) {
-              throw new HandlingException(e);
-            }
-          }
-        }
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    return (E) propertiesOf(target).getProperty(name);
+  }
 
-        @Override
-        public <E> E value() throws HandlingException {
-          return (E) props.getProperty(name);
-        }
-      };
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    Properties props = propertiesOf(target);
+    if (value != null) {
+      try {
+        props.setProperty(name, (String) value);
+      } catch (ClassCastException e) {
+        throw new HandlingException(e);
+      }
+    }
+  }
+
+  private static Properties propertiesOf(Object target) {
+    if (target instanceof Properties) {
+      return (Properties) target;
     }
     throw new IllegalArgumentException("Target is not a " + Properties.class);
   }
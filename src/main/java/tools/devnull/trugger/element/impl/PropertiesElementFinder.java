@@ -29,19 +29,27 @@ public class PropertiesElementFinder implements Finder<Element> {
   
   @Override
   public Result<List<Element>, Object> findAll() {
-    return target -> {
-      if (target instanceof Class<?>) {
-        return Collections.emptyList();
-      }
-      List<Element> elements = new ArrayList<>();
-      Properties props = (Properties) target;
-      for (Object key : props.keySet()) {
-        if (key instanceof String) {
-          elements.add(new SpecificElement(new PropertiesElement((String) key), props));
-        }
+    return target -> elementsOf(target, true);
+  }
+
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> elementsOf(target, false);
+  }
+
+  private List<Element> elementsOf(Object target, boolean bind) {
+    if (target instanceof Class<?>) {
+      return Collections.emptyList();
+    }
+    List<Element> elements = new ArrayList<>();
+    Properties props = (Properties) target;
+    for (Object key : props.keySet()) {
+      if (key instanceof String) {
+        Element element = new PropertiesElement((String) key);
+        elements.add(bind ? new SpecificElement(element, props) : element);
       }
-      return elements;
-    };
+    }
+    return elements;
   }
   
   @Override
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.element.Element;
+import tools.devnull.trugger.element.Elements;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * A path of elements (like <code>customer.address.city</code>) resolved once
+ * for a root class using the declared type of each element.
+ * <p>
+ * Each hop remembers the elements resolved for the classes of its values. If
+ * an intermediate value has another class (a subclass of the declared type,
+ * for instance), the element of that hop is resolved for the class of the
+ * value and kept along with the others (up to a few classes per hop). Since
+ * the paths are cached for the root class, only the classes visible from the
+ * class loader of the root class are kept; the elements of other classes are
+ * resolved on each use so the path doesn't keep their loaders alive.
+ *
+ * @since 5.2
+ */
+final class PropertyPath {
+
+  private static final int MAX_PATHS = 256;
+  private static final int MAX_BINDINGS = 8;
+
+  private static final ClassCache<Map<String, PropertyPath>> paths =
+      ClassCache.create("property paths", DEFAULT_MAXIMUM_SIZE,
+          type -> new ConcurrentHashMap<>(8));
+
+  private final Hop[] hops;
+  private final List<Element> elements;
+
+  private PropertyPath(Class<?> root, String path) {
+    List<Hop> hops = new ArrayList<>();
+    List<Element> elements = new ArrayList<>();
+    Class<?> type = root;
+    int start = 0;
+    while (start <= path.length()) {
+      int end = path.indexOf('.', start);
+      if (end < 0) {
+        end = path.length();
+      }
+      String name = path.substring(start, end);
+      Element element = resolve(name, type);
+      if (element == null) {
+        elements = null;
+        break;
+      }
+      hops.add(new Hop(name, type, element, root.getClassLoader()));
+      elements.add(element);
+      type = element.type();
+      start = end + 1;
+    }
+    this.hops = hops.toArray(new Hop[hops.size()]);
+    this.elements = elements != null ?
+        Collections.unmodifiableList(elements) : null;
+  }
+
+  /**
+   * Returns the path for the given root class, compiling it on the first
+   * use.
+   *
+   * @param root the class of the objects that contain the first element
+   * @param path the names of the elements separated by dots
+   */
+  static PropertyPath of(Class<?> root, String path) {
+    Map<String, PropertyPath> compiled = paths.get(root);
+    PropertyPath result = compiled.get(path);
+    if (result == null) {
+      result = new PropertyPath(root, path);
+      if (compiled.size() < MAX_PATHS) {
+        compiled.putIfAbsent(path, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return <code>true</code> if every element of the path was found in the
+   * declared types.
+   */
+  boolean isResolved() {
+    return elements != null;
+  }
+
+  /**
+   * @return an immutable list of the elements resolved for the declared types
+   */
+  List<Element> elements() {
+    return elements;
+  }
+
+  /**
+   * @return the value of the last element of the path in the given root
+   * object
+   */
+  Object valueIn(Object root) {
+    Object value = root;
+    for (Hop hop : hops) {
+      value = hop.elementFor(value).valueIn(value);
+    }
+    return value;
+  }
+
+  /**
+   * Changes the value of the last element of the path in the given root
+   * object.
+   */
+  void setIn(Object root, Object value) {
+    Object target = parentIn(root);
+    Hop last = hops[hops.length - 1];
+    last.elementFor(target).setIn(target, value);
+  }
+
+  /**
+   * @return the object that contains the last element of the path
+   */
+  Object parentIn(Object root) {
+    Object value = root;
+    for (int i = 0; i < hops.length - 1; i++) {
+      value = hops[i].elementFor(value).valueIn(value);
+    }
+    return value;
+  }
+
+  /**
+   * @return <code>true</code> if every object that contains an element of the
+   * path is present in the given root object and can be read.
+   */
+  boolean isReachable(Object root) {
+    Object value = root;
+    for (int i = 0; i < hops.length - 1; i++) {
+      if (value == null) {
+        return false;
+      }
+      Element element = hops[i].elementFor(value);
+      if (!element.isReadable()) {
+        return false;
+      }
+      value = element.valueIn(value);
+    }
+    return value != null;
+  }
+
+  // finds an element that isn't bound to an object of the given class
+  private static Element resolve(String name, Class<?> type) {
+    if (type.isArray() || List.class.isAssignableFrom(type)) {
+      // indexed elements are bound to the array or list
+      return null;
+    }
+    try {
+      return Elements.element(name).in(type);
+    } catch (RuntimeException e) {
+      // the element can only be found in an object
+      return null;
+    }
+  }
+
+  private static class Hop {
+
+    private final String name;
+    private final Binding declared;
+    private final ClassLoader loader;
+    // the bindings of the classes already seen, copied on each new class
+    private volatile Binding[] bindings;
+
+    private Hop(String name, Class<?> type, Element element,
+                ClassLoader loader) {
+      this.name = name;
+      this.loader = loader;
+      this.declared = new Binding(type, element);
+      this.bindings = new Binding[]{declared};
+    }
+
+    private Element elementFor(Object value) {
+      if (value == null) {
+        return declared.element != null ?
+            declared.element : notFound(declared.type);
+      }
+      Class<?> type = value.getClass();
+      Binding binding = bindingFor(type);
+      if (binding.element != null) {
+        return binding.element;
+      }
+      Element element = Elements.element(name).in(value);
+      return element != null ? element : notFound(type);
+    }
+
+    private Binding bindingFor(Class<?> type) {
+      Binding[] current = bindings;
+      for (Binding binding : current) {
+        if (binding.type == type) {
+          return binding;
+        }
+      }
+      Binding binding = new Binding(type, resolve(name, type));
+      if (current.length < MAX_BINDINGS && isVisible(type)) {
+        // a binding lost to a concurrent update is just resolved again
+        Binding[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = binding;
+        bindings = updated;
+      }
+      return binding;
+    }
+
+    // checks if the class is loaded by the loader of the root class or by one
+    // of its parents, so keeping it doesn't retain another loader
+    private boolean isVisible(Class<?> type) {
+      ClassLoader typeLoader = type.getClassLoader();
+      if (typeLoader == null) {
+        return true;
+      }
+      for (ClassLoader l = loader; l != null; l = l.getParent()) {
+        if (l == typeLoader) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private Element notFound(Class<?> type) {
+      throw new HandlingException(
+          "Element '" + name + "' not found in " + type);
+    }
+
+  }
+
+  // the element of a hop for a class (null if it must be found in the object)
+  private static class Binding {
+
+    private final Class<?> type;
+    private final Element element;
+
+    private Binding(Class<?> type, Element element) {
+      this.type = type;
+      this.element = element;
+    }
+
+  }
+
+}
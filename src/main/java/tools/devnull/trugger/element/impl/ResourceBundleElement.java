@@ -37,23 +37,27 @@ public final class ResourceBundleElement extends AbstractElement implements Elem
 
   @Override
   public ValueHandler in(Object target) {
-    if (target instanceof ResourceBundle) {
-      final ResourceBundle bundle = (ResourceBundle) target;
-      return new ValueHandler() {
+    return new BoundValueHandler(this, bundleOf(target));
+  }
 
-        @Override
-        public void set(Object value) throws HandlingException {
-          throw new UnwritableElementException("Cannot change a ResourceBundle property.");
-        }
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    ResourceBundle bundle = bundleOf(target);
+    if (bundle.containsKey(name)) {
+      return (E) bundle.getObject(name);
+    }
+    throw new HandlingException("Key '" + name + "' not defined in target.");
+  }
 
-        @Override
-        public <E> E value() throws HandlingException {
-          if (bundle.containsKey(name)) {
-            return (E) bundle.getObject(name);
-          }
-          throw new HandlingException("Key '" + name + "' not defined in target.");
-        }
-      };
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    bundleOf(target);
+    throw new UnwritableElementException("Cannot change a ResourceBundle property.");
+  }
+
+  private static ResourceBundle bundleOf(Object target) {
+    if (target instanceof ResourceBundle) {
+      return (ResourceBundle) target;
     }
     throw new IllegalArgumentException("Target is not a " + ResourceBundle.class);
   }
@@ -31,17 +31,25 @@ public class ResourceBundleElementFinder implements Finder<Element> {
   
   @Override
   public Result<List<Element>, Object> findAll() {
-    return target -> {
-      if (target instanceof Class<?>) {
-        return Collections.emptyList();
-      }
-      List<Element> properties = new ArrayList<>();
-      ResourceBundle bundle = (ResourceBundle) target;
-      for (String key : bundle.keySet()) {
-        properties.add(new SpecificElement(new ResourceBundleElement(key), bundle));
-      }
-      return properties;
-    };
+    return target -> elementsOf(target, true);
+  }
+
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> elementsOf(target, false);
+  }
+
+  private List<Element> elementsOf(Object target, boolean bind) {
+    if (target instanceof Class<?>) {
+      return Collections.emptyList();
+    }
+    List<Element> properties = new ArrayList<>();
+    ResourceBundle bundle = (ResourceBundle) target;
+    for (String key : bundle.keySet()) {
+      Element element = new ResourceBundleElement(key);
+      properties.add(bind ? new SpecificElement(element, bundle) : element);
+    }
+    return properties;
   }
   
   @Override
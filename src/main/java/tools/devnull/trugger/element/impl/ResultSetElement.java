@@ -43,27 +43,33 @@ public final class ResultSetElement extends AbstractElement implements Element {
 
   @Override
   public ValueHandler in(final Object target) {
-    if (target instanceof ResultSet) {
-      final ResultSet resultSet = (ResultSet) target;
-      return new ValueHandler() {
+    return new BoundValueHandler(this, resultSetOf(target));
+  }
 
-        public void set(Object value) throws HandlingException {
-          throw new UnwritableElementException(
-              "Cannot write a value in a ResultSet");
-        }
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    ResultSet resultSet = resultSetOf(target);
+    try {
+      //if the name is the column index
+      if (DIGITS_PATTERN.matcher(name).matches()) {
+        return (E) resultSet.getObject(Integer.parseInt(name));
+      }
+      return (E) resultSet.getObject(name);
+    } catch (SQLException e) {
+      throw new HandlingException(e);
+    }
+  }
 
-        public <E> E value() throws HandlingException {
-          try {
-            //if the name is the column index
-            if (DIGITS_PATTERN.matcher(name).matches()) {
-              return (E) resultSet.getObject(Integer.parseInt(name));
-            }
-            return (E) resultSet.getObject(name);
-          } catch (SQLException e) {
-            throw new HandlingException(e);
-          }
-        }
-      };
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    resultSetOf(target);
+    throw new UnwritableElementException(
+        "Cannot write a value in a ResultSet");
+  }
+
+  private static ResultSet resultSetOf(Object target) {
+    if (target instanceof ResultSet) {
+      return (ResultSet) target;
     }
     throw new HandlingException("Target is not a " + ResultSet.class);
   }
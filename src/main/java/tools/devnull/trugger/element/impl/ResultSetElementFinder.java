@@ -35,25 +35,30 @@ public class ResultSetElementFinder implements Finder<Element> {
 
   @Override
   public Result<List<Element>, Object> findAll() {
-    return target -> {
-      if (target instanceof Class<?>) {
-        return Collections.emptyList();
-      }
-      List<Element> elements = new ArrayList<>();
-      ResultSet resultSet = (ResultSet) target;
-      try {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        for (int i = 1 ; i <= metaData.getColumnCount() ; i++) {
-          elements.add(
-              new SpecificElement(
-                  new ResultSetElement(metaData.getColumnName(i)), resultSet)
-          );
-        }
-      } catch (SQLException e) {
-        throw new TruggerException(e);
+    return target -> elementsOf(target, true);
+  }
+
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> elementsOf(target, false);
+  }
+
+  private List<Element> elementsOf(Object target, boolean bind) {
+    if (target instanceof Class<?>) {
+      return Collections.emptyList();
+    }
+    List<Element> elements = new ArrayList<>();
+    ResultSet resultSet = (ResultSet) target;
+    try {
+      ResultSetMetaData metaData = resultSet.getMetaData();
+      for (int i = 1 ; i <= metaData.getColumnCount() ; i++) {
+        Element element = new ResultSetElement(metaData.getColumnName(i));
+        elements.add(bind ? new SpecificElement(element, resultSet) : element);
       }
-      return elements;
-    };
+    } catch (SQLException e) {
+      throw new TruggerException(e);
+    }
+    return elements;
   }
 
   @Override
@@ -19,6 +19,7 @@ package tools.devnull.trugger.element.impl;
 import tools.devnull.trugger.HandlingException;
 import tools.devnull.trugger.ValueHandler;
 import tools.devnull.trugger.element.Element;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 
 import java.lang.annotation.Annotation;
 
@@ -27,7 +28,7 @@ import java.lang.annotation.Annotation;
  *
  * @author Marcelo Guimarães
  */
-public class SpecificElement implements Element {
+public class SpecificElement implements Element, AnnotationIndex.Holder {
 
   private final Object target;
   private final Element element;
@@ -52,12 +53,12 @@ public class SpecificElement implements Element {
 
   @Override
   public Object value() throws HandlingException {
-    return in(target).value();
+    return element.valueIn(target);
   }
 
   @Override
   public void set(Object value) throws HandlingException {
-    in(target).set(value);
+    element.setIn(target, value);
   }
 
   public Class declaringClass() {
@@ -80,6 +81,10 @@ public class SpecificElement implements Element {
     return element.isAnnotationPresent(annotationClass);
   }
 
+  public AnnotationIndex annotationIndex() {
+    return AnnotationIndex.of(element);
+  }
+
   public String name() {
     return element.name();
   }
@@ -93,6 +98,16 @@ public class SpecificElement implements Element {
     return element.in(target);
   }
 
+  @Override
+  public <E> E valueIn(Object target) throws HandlingException {
+    return element.valueIn(target);
+  }
+
+  @Override
+  public void setIn(Object target, Object value) throws HandlingException {
+    element.setIn(target, value);
+  }
+
   public boolean isReadable() {
     return element.isReadable();
   }
@@ -17,13 +17,22 @@
 package tools.devnull.trugger.element.impl;
 
 import tools.devnull.trugger.element.*;
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.reflection.ReflectionException;
+import tools.devnull.trugger.reflection.impl.FieldLayout;
 import tools.devnull.trugger.selector.ElementsSelector;
 import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
+import java.lang.reflect.Field;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
 /**
  * The default implementation for the property copy operation.
  *
@@ -32,6 +41,17 @@ import java.util.function.Predicate;
 public final class TruggerElementCopier implements ElementCopier,
     CopyDestination {
 
+  private static final ElementsSelector ALL_ELEMENTS = Elements.elements();
+  private static final Function<ElementCopy, Object> VALUE =
+      copy -> copy.value();
+  private static final Predicate<ElementCopy> ALL = copy -> true;
+
+  // classes whose elements are only plain fields, which can be copied through
+  // their field layout
+  private static final ClassCache<Boolean> fieldCopyable =
+      ClassCache.create("field copyable classes", DEFAULT_MAXIMUM_SIZE,
+          TruggerElementCopier::isFieldCopyable);
+
   private final ElementsSelector selector;
   private final Function<ElementCopy, Object> function;
   private final Predicate<? super ElementCopy> predicate;
@@ -40,18 +60,18 @@ public final class TruggerElementCopier implements ElementCopier,
   private final Object src;
 
   public TruggerElementCopier() {
-    this.selector = Elements.elements();
-    this.function = copy -> copy.value();
+    this.selector = ALL_ELEMENTS;
+    this.function = VALUE;
     this.copyNull = true;
-    this.predicate = copy -> true;
+    this.predicate = ALL;
     this.src = null;
   }
 
   public TruggerElementCopier(ElementsSelector selector) {
     this.selector = selector;
-    this.function = copy -> copy.value();
+    this.function = VALUE;
     this.copyNull = true;
-    this.predicate = copy -> true;
+    this.predicate = ALL;
     this.src = null;
   }
 
@@ -93,6 +113,10 @@ public final class TruggerElementCopier implements ElementCopier,
   }
 
   private void startCopy(Object dest) {
+    if (isFieldCopy(dest)) {
+      FieldLayout.of(dest.getClass()).copy(src, dest, copyNull);
+      return;
+    }
     List<Element> elements = selector.in(src);
     Element destProperty;
     for (Element element : elements) {
@@ -109,6 +133,38 @@ public final class TruggerElementCopier implements ElementCopier,
     }
   }
 
+  // a copy of all elements between objects of the same class can use the
+  // field layout if no element is accessed through methods
+  private boolean isFieldCopy(Object dest) {
+    return selector == ALL_ELEMENTS && function == VALUE && predicate == ALL
+        && src.getClass() == dest.getClass()
+        && fieldCopyable.get(dest.getClass());
+  }
+
+  private static boolean isFieldCopyable(Class<?> type) {
+    FieldLayout layout;
+    try {
+      layout = FieldLayout.of(type);
+    } catch (ReflectionException e) {
+      return false;
+    }
+    if (layout.hasFinalFields()) {
+      return false;
+    }
+    Set<Field> fields = new HashSet<>(layout.fields());
+    for (Element element : ALL_ELEMENTS.in(type)) {
+      if (!(element instanceof ObjectElement)) {
+        return false;
+      }
+      Field field = ((ObjectElement) element).plainField();
+      if (field == null ||
+          (!Reflection.isStatic(field) && !fields.remove(field))) {
+        return false;
+      }
+    }
+    return fields.isEmpty();
+  }
+
   private void copy(Element destElement, Element srcElement, Object dest) {
     Object value = srcElement.in(this.src).value();
     PropertyCopyImpl copy = new PropertyCopyImpl(srcElement, destElement, value);
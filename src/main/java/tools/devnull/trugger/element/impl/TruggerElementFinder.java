@@ -70,4 +70,12 @@ public final class TruggerElementFinder implements Finder<Element> {
     };
   }
 
+  @Override
+  public Result<List<Element>, Object> findAllUnbound() {
+    return target -> {
+      Finder<Element> finder = getFinder(target);
+      return finder.findAllUnbound().in(target);
+    };
+  }
+
 }
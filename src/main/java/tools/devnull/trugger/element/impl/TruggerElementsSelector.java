@@ -33,25 +33,40 @@ public final class TruggerElementsSelector implements ElementsSelector {
 
   private final Predicate<? super Element> predicate;
   private final Finder<Element> finder;
+  private final boolean unbound;
 
   public TruggerElementsSelector(Finder<Element> finder) {
     this.finder = finder;
     this.predicate = null;
+    this.unbound = false;
   }
 
   public TruggerElementsSelector(Finder<Element> finder,
                                  Predicate<? super Element> predicate) {
+    this(finder, predicate, false);
+  }
+
+  public TruggerElementsSelector(Finder<Element> finder,
+                                 Predicate<? super Element> predicate,
+                                 boolean unbound) {
     this.predicate = predicate;
     this.finder = finder;
+    this.unbound = unbound;
   }
 
   @Override
   public ElementsSelector filter(Predicate<? super Element> predicate) {
-    return new TruggerElementsSelector(finder, predicate);
+    return new TruggerElementsSelector(finder, predicate, unbound);
+  }
+
+  @Override
+  public ElementsSelector unbound() {
+    return new TruggerElementsSelector(finder, predicate, true);
   }
 
   public List<Element> in(Object target) {
-    List<Element> elements = finder.findAll().in(target);
+    List<Element> elements = unbound ?
+        finder.findAllUnbound().in(target) : finder.findAll().in(target);
     if (predicate != null) {
       return elements.stream().filter(predicate).collect(Collectors.toList());
     }
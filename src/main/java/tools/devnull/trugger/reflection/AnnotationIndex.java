@@ -0,0 +1,183 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Member;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * An index of the annotations present in an {@link AnnotatedElement}.
+ * <p>
+ * The index answers if an annotation is present and which annotations have
+ * a type annotated with a given annotation (like the constraints annotated
+ * with <code>&#64;ValidatorClass</code>) without copying the annotations of the
+ * element on each query.
+ * <p>
+ * The indexes of classes, fields, methods and constructors are computed only
+ * once. Other elements can keep their own index by implementing
+ * {@link Holder}; the indexes of the remaining elements are computed on each
+ * call to {@link #of(AnnotatedElement)}.
+ *
+ * @since 5.2
+ */
+public final class AnnotationIndex {
+
+  private static final AtomicInteger annotationCount = new AtomicInteger();
+
+  // a sequential id for each annotation type, used as the index in the bitsets
+  // (kept for the lifetime of the annotation type, since the ids can't change)
+  private static final ClassValue<Integer> annotationIds =
+      new ClassValue<Integer>() {
+        @Override
+        protected Integer computeValue(Class<?> type) {
+          return annotationCount.getAndIncrement();
+        }
+      };
+
+  private static final ClassCache<AnnotationIndex> classIndexes =
+      ClassCache.create("class annotations", DEFAULT_MAXIMUM_SIZE,
+          type -> new AnnotationIndex(type.getAnnotations()));
+
+  private final List<Annotation> annotations;
+  private final BitSet present;
+  private final Map<Class<? extends Annotation>, Annotation> byType;
+
+  private volatile Map<Class<? extends Annotation>, List<Annotation>> byMetaAnnotation;
+
+  AnnotationIndex(Annotation[] annotations) {
+    this.annotations = Collections.unmodifiableList(Arrays.asList(annotations));
+    this.present = new BitSet();
+    this.byType = new HashMap<>(annotations.length * 2);
+    for (Annotation annotation : annotations) {
+      Class<? extends Annotation> type = annotation.annotationType();
+      present.set(annotationIds.get(type));
+      byType.put(type, annotation);
+    }
+  }
+
+  /**
+   * Returns the index of the annotations present in the given element.
+   *
+   * @param element the annotated element
+   * @return the index of the annotations present in the element
+   */
+  public static AnnotationIndex of(AnnotatedElement element) {
+    if (element instanceof Class) {
+      return classIndexes.get((Class<?>) element);
+    }
+    if (element instanceof Member) {
+      MemberMetadata metadata = MemberMetadata.of((Member) element);
+      if (metadata != null) {
+        return metadata.annotations();
+      }
+    }
+    if (element instanceof Holder) {
+      return ((Holder) element).annotationIndex();
+    }
+    return new AnnotationIndex(element.getAnnotations());
+  }
+
+  /**
+   * @param annotationType the annotation type
+   * @return <code>true</code> if an annotation of the given type is present
+   */
+  public boolean isPresent(Class<? extends Annotation> annotationType) {
+    return present.get(annotationIds.get(annotationType));
+  }
+
+  /**
+   * @param annotationType the annotation type
+   * @return the annotation of the given type or <code>null</code> if it is not
+   * present
+   */
+  public <A extends Annotation> A get(Class<A> annotationType) {
+    return isPresent(annotationType) ?
+        annotationType.cast(byType.get(annotationType)) : null;
+  }
+
+  /**
+   * @return an immutable list of all annotations present in the element
+   */
+  public List<Annotation> annotations() {
+    return annotations;
+  }
+
+  /**
+   * Returns the annotations whose types are annotated with the given
+   * meta-annotation.
+   *
+   * @param metaAnnotationType the type of the meta-annotation
+   * @return an immutable list of the annotations, in the same order of
+   * {@link #annotations()}
+   */
+  public List<Annotation> annotatedWith(
+      Class<? extends Annotation> metaAnnotationType) {
+    Map<Class<? extends Annotation>, List<Annotation>> index = byMetaAnnotation;
+    if (index == null) {
+      index = indexMetaAnnotations();
+      byMetaAnnotation = index;
+    }
+    List<Annotation> result = index.get(metaAnnotationType);
+    return result != null ? result : Collections.emptyList();
+  }
+
+  private Map<Class<? extends Annotation>, List<Annotation>> indexMetaAnnotations() {
+    Map<Class<? extends Annotation>, List<Annotation>> index = new HashMap<>();
+    for (Annotation annotation : annotations) {
+      for (Annotation meta : of(annotation.annotationType()).annotations) {
+        index.computeIfAbsent(meta.annotationType(), type -> new ArrayList<>(2))
+            .add(annotation);
+      }
+    }
+    for (Map.Entry<Class<? extends Annotation>, List<Annotation>> entry :
+        index.entrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+    return index;
+  }
+
+  /**
+   * An annotated element that keeps its own index, so
+   * {@link AnnotationIndex#of(AnnotatedElement)} doesn't need to index its
+   * annotations on every call.
+   *
+   * @since 5.2
+   */
+  public interface Holder extends AnnotatedElement {
+
+    /**
+     * @return the index of the annotations present in this element
+     */
+    AnnotationIndex annotationIndex();
+
+  }
+
+}
@@ -39,7 +39,7 @@ public class ConstructorPredicates {
    * @since 5.0
    */
   public static final Predicate<Constructor> annotated() {
-    return c -> c.getDeclaredAnnotations().length > 0;
+    return c -> MemberMetadata.isAnnotated(c);
   }
 
   /**
@@ -50,7 +50,7 @@ public class ConstructorPredicates {
    */
   public static Predicate<Constructor> annotatedWith(
       Class<? extends Annotation> annotationType) {
-    return c -> c.isAnnotationPresent(annotationType);
+    return c -> MemberMetadata.isAnnotationPresent(c, annotationType);
   }
 
 }
@@ -41,6 +41,13 @@ import tools.devnull.trugger.ValueHandler;
  * handler.on(instance).value(newValue);
  * </pre>
  * 
+ * Primitive fields may be handled without boxing the values:
+ * 
+ * <pre>
+ * int count = handler.in(instance).intValue();
+ * handler.in(instance).setInt(count + 1);
+ * </pre>
+ * 
  * @author Marcelo Guimarães
  */
 public interface FieldHandler extends ValueHandler, Result<ValueHandler, Object> {
@@ -55,7 +55,7 @@ public class FieldPredicates {
    * one annotation.
    */
   public static Predicate<Field> annotated() {
-    return field -> field.getAnnotations().length > 0;
+    return MemberMetadata::isAnnotated;
   }
 
   /**
@@ -64,7 +64,7 @@ public class FieldPredicates {
    */
   public static Predicate<Field> annotatedWith(
       Class<? extends Annotation> annotationType) {
-    return field -> field.isAnnotationPresent(annotationType);
+    return field -> MemberMetadata.isAnnotationPresent(field, annotationType);
   }
 
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * Metadata of a class member computed only once, used by the predicates to
+ * avoid reading the parameter types and annotations (which are copied by the
+ * Reflection API) on each evaluation.
+ * <p>
+ * The metadata of every member declared by a class is computed when the first
+ * member of that class is evaluated.
+ *
+ * @since 5.2
+ */
+final class MemberMetadata {
+
+  private static final Pattern TO_PATTERN = Pattern.compile("to[A-Z].*");
+  private static final Pattern GET_PATTERN = Pattern.compile("get[A-Z].*");
+  private static final Pattern SET_PATTERN = Pattern.compile("set[A-Z].*");
+  private static final Pattern IS_PATTERN = Pattern.compile("is[A-Z].*");
+
+  private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+
+  private static final ClassCache<Map<Member, MemberMetadata>> metadata =
+      ClassCache.create("member metadata", DEFAULT_MAXIMUM_SIZE, type -> {
+        try {
+          return computeMetadata(type);
+        } catch (LinkageError e) {
+          // the predicates will use the Reflection API directly
+          return Collections.emptyMap();
+        }
+      });
+
+  private final Class<?>[] parameterTypes;
+  private final boolean getter;
+  private final boolean setter;
+  private final AnnotationIndex annotations;
+
+  private MemberMetadata(Member member, Class<?>[] parameterTypes) {
+    this.parameterTypes = parameterTypes;
+    this.getter = member instanceof Method && checkGetter((Method) member);
+    this.setter = member instanceof Method && checkSetter((Method) member);
+    this.annotations = new AnnotationIndex(
+        ((AnnotatedElement) member).getDeclaredAnnotations());
+  }
+
+  private static Map<Member, MemberMetadata> computeMetadata(Class<?> type) {
+    Map<Member, MemberMetadata> result = new HashMap<>();
+    Map<List<Class<?>>, Class<?>[]> parameters = new HashMap<>();
+    for (Member field : type.getDeclaredFields()) {
+      result.put(field, new MemberMetadata(field, NO_PARAMETERS));
+    }
+    for (Method method : type.getDeclaredMethods()) {
+      result.put(method, new MemberMetadata(method, intern(method, parameters)));
+    }
+    for (Constructor<?> constructor : type.getDeclaredConstructors()) {
+      result.put(constructor,
+          new MemberMetadata(constructor, intern(constructor, parameters)));
+    }
+    return result;
+  }
+
+  // shares the same array between members with the same parameter types
+  private static Class<?>[] intern(Executable executable,
+                                   Map<List<Class<?>>, Class<?>[]> parameters) {
+    if (executable.getParameterCount() == 0) {
+      return NO_PARAMETERS;
+    }
+    Class<?>[] types = executable.getParameterTypes();
+    return parameters.computeIfAbsent(Arrays.asList(types), key -> types);
+  }
+
+  /**
+   * @return the metadata of the given member or <code>null</code> if it is not
+   * available.
+   */
+  static MemberMetadata of(Member member) {
+    return metadata.get(member.getDeclaringClass()).get(member);
+  }
+
+  AnnotationIndex annotations() {
+    return annotations;
+  }
+
+  static boolean isGetter(Method method) {
+    MemberMetadata metadata = of(method);
+    return metadata != null ? metadata.getter : checkGetter(method);
+  }
+
+  static boolean isSetter(Method method) {
+    MemberMetadata metadata = of(method);
+    return metadata != null ? metadata.setter : checkSetter(method);
+  }
+
+  /**
+   * @return the parameter types of the given method or constructor. The returned array may be
+   * shared and must not be modified.
+   */
+  static Class<?>[] parameterTypesOf(Executable executable) {
+    MemberMetadata metadata = of(executable);
+    return metadata != null ?
+        metadata.parameterTypes : executable.getParameterTypes();
+  }
+
+  static boolean isAnnotated(Member member) {
+    MemberMetadata metadata = of(member);
+    return metadata != null ? !metadata.annotations.annotations().isEmpty() :
+        ((AccessibleObject) member).getDeclaredAnnotations().length > 0;
+  }
+
+  static boolean isAnnotationPresent(Member member,
+                                     Class<? extends Annotation> annotationType) {
+    MemberMetadata metadata = of(member);
+    return metadata != null ?
+        metadata.annotations.isPresent(annotationType) :
+        ((AccessibleObject) member).isAnnotationPresent(annotationType);
+  }
+
+  /**
+   * @see MethodPredicates#getter()
+   */
+  private static boolean checkGetter(Method method) {
+    if (!Modifier.isPublic(method.getModifiers())) {
+      return false;
+    }
+    String name = method.getName();
+    Class<?> returnType = method.getReturnType();
+    if ((method.getParameterCount() != 0) || Reflection.isStatic(method) ||
+        (returnType == null || returnType.equals(void.class) ||
+            returnType.equals(Void.class))) {
+      return false;
+    }
+    if (TO_PATTERN.matcher(name).matches()) {
+      return false;
+    }
+    if (name.startsWith("get")) {
+      return GET_PATTERN.matcher(name).matches();
+    } else if (name.startsWith("is")) {
+      boolean returnBoolean = (Boolean.class.equals(returnType) ||
+          boolean.class.equals(returnType));
+      return returnBoolean && IS_PATTERN.matcher(name).matches();
+    }
+    return true;
+  }
+
+  /**
+   * @see MethodPredicates#setter()
+   */
+  private static boolean checkSetter(Method method) {
+    if (!Modifier.isPublic(method.getModifiers())) {
+      return false;
+    }
+    Class returnType = method.getReturnType();
+    if ((method.getParameterCount() != 1) ||
+        !(returnType == null || returnType.equals(void.class) ||
+            returnType.equals(Void.class))) {
+      return false;
+    }
+    return SET_PATTERN.matcher(method.getName()).matches();
+  }
+
+}
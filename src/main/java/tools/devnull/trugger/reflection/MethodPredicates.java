@@ -20,10 +20,8 @@ package tools.devnull.trugger.reflection;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.function.Predicate;
-import java.util.regex.Pattern;
 
 /**
  * A set of predicates to use with <code>Method</code> objects.
@@ -36,11 +34,6 @@ public class MethodPredicates {
   private MethodPredicates() {
   }
 
-  private static final Pattern TO_PATTERN = Pattern.compile("to[A-Z].*");
-  private static final Pattern GET_PATTERN = Pattern.compile("get[A-Z].*");
-  private static final Pattern SET_PATTERN = Pattern.compile("set[A-Z].*");
-  private static final Pattern IS_PATTERN = Pattern.compile("is[A-Z].*");
-
   /**
    * A predicate that returns <code>true</code> if the evaluated method is a getter
    * method.
@@ -50,29 +43,7 @@ public class MethodPredicates {
    * value.
    */
   public static final Predicate<Method> getter() {
-    return method -> {
-      if (!Modifier.isPublic(method.getModifiers())) {
-        return false;
-      }
-      String name = method.getName();
-      Class<?> returnType = method.getReturnType();
-      if ((method.getParameterTypes().length != 0) || Reflection.isStatic(method) ||
-          (returnType == null || returnType.equals(void.class) ||
-              returnType.equals(Void.class))) {
-        return false;
-      }
-      if (TO_PATTERN.matcher(name).matches()) {
-        return false;
-      }
-      if (name.startsWith("get")) {
-        return GET_PATTERN.matcher(name).matches();
-      } else if (name.startsWith("is")) {
-        boolean returnBoolean = (Boolean.class.equals(returnType) ||
-            boolean.class.equals(returnType));
-        return returnBoolean && IS_PATTERN.matcher(name).matches();
-      }
-      return true;
-    };
+    return MemberMetadata::isGetter;
   }
 
   /**
@@ -83,18 +54,7 @@ public class MethodPredicates {
    * value (a void method).
    */
   public static final Predicate<Method> setter() {
-    return method -> {
-      if (!Modifier.isPublic(method.getModifiers())) {
-        return false;
-      }
-      Class returnType = method.getReturnType();
-      if ((method.getParameterTypes().length != 1) ||
-          !(returnType == null || returnType.equals(void.class) ||
-              returnType.equals(Void.class))) {
-        return false;
-      }
-      return SET_PATTERN.matcher(method.getName()).matches();
-    };
+    return MemberMetadata::isSetter;
   }
 
   /**
@@ -132,7 +92,8 @@ public class MethodPredicates {
    * @since 5.0
    */
   public static Predicate<Method> withParameters(Class... parameterTypes) {
-    return method -> Arrays.equals(method.getParameterTypes(), parameterTypes);
+    return method -> Arrays.equals(
+        MemberMetadata.parameterTypesOf(method), parameterTypes);
   }
 
   /**
@@ -143,7 +104,7 @@ public class MethodPredicates {
    * @since 5.0
    */
   public static Predicate<Method> withoutParameters() {
-    return method -> method.getParameterTypes().length == 0;
+    return method -> method.getParameterCount() == 0;
   }
 
   /**
@@ -159,7 +120,7 @@ public class MethodPredicates {
    * annotations.
    */
   public static final Predicate<Method> annotated() {
-    return method -> method.getDeclaredAnnotations().length > 0;
+    return MemberMetadata::isAnnotated;
   }
 
   /**
@@ -168,7 +129,7 @@ public class MethodPredicates {
    */
   public static Predicate<Method> annotatedWith(
       final Class<? extends Annotation> annotationType) {
-    return method -> method.isAnnotationPresent(annotationType);
+    return method -> MemberMetadata.isAnnotationPresent(method, annotationType);
   }
 
 }
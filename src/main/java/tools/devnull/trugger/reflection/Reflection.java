@@ -16,16 +16,25 @@
  */
 package tools.devnull.trugger.reflection;
 
+import tools.devnull.trugger.scan.ClassScan;
+import tools.devnull.trugger.util.ClassBatch;
 import tools.devnull.trugger.util.ImplementationLoader;
+import tools.devnull.trugger.util.cache.ClassCache;
+import tools.devnull.trugger.reflection.impl.FieldLayout;
 import tools.devnull.trugger.reflection.impl.FieldSelectorHandler;
 import tools.devnull.trugger.reflection.impl.MethodSelectorInvoker;
+import tools.devnull.trugger.reflection.impl.ReflectionWarmUp;
 import tools.devnull.trugger.selector.*;
 import tools.devnull.trugger.util.ClassIterator;
 
 import java.lang.reflect.*;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -246,6 +255,79 @@ public final class Reflection {
     return new MethodSelectorInvoker(selector);
   }
 
+  /**
+   * Copies the value of every instance field of the source object (including
+   * the ones declared in its superclasses) to the destination object.
+   *
+   * @param src  the source object
+   * @param dest the destination object, of the same class as the source
+   * @throws IllegalArgumentException if the objects are not of the same class
+   * @see FieldLayout
+   * @since 5.2
+   */
+  public static void shallowCopy(Object src, Object dest) {
+    if (src.getClass() != dest.getClass()) {
+      throw new IllegalArgumentException(
+          "Cannot copy " + src.getClass().getName() + " to " +
+              dest.getClass().getName());
+    }
+    FieldLayout.of(src.getClass()).copy(src, dest);
+  }
+
+  /**
+   * Creates a shallow clone of the given object, using the constructor
+   * without parameters of its class and copying every instance field.
+   *
+   * @param object the object to clone
+   * @return the created object.
+   * @see FieldLayout
+   * @since 5.2
+   */
+  public static <E> E shallowClone(E object) {
+    return FieldLayout.of(object.getClass()).clone(object);
+  }
+
+  /**
+   * Loads the cached metadata of the given classes in parallel (members,
+   * interfaces, annotations, type variables and bridge methods), so the first
+   * uses of these classes don't pay for their introspection.
+
+   * <p>
+   * The caches keep at most {@link ClassCache#DEFAULT_MAXIMUM_SIZE} classes
+   * and evict the oldest ones when they grow beyond it, so a larger batch
+   * can't be kept entirely and is refused.
+   *
+   * @param classes the classes to load
+   * @return the time spent on each class.
+   * @throws IllegalArgumentException if there are more classes than the
+   *                                  caches can keep
+   * @since 5.2
+   */
+  public static Map<Class<?>, Duration> warmUp(
+      Collection<? extends Class<?>> classes) {
+    ClassBatch.checkSize(classes, ClassCache.DEFAULT_MAXIMUM_SIZE);
+    return ClassBatch.time(classes, ReflectionWarmUp::warmUp);
+  }
+
+  /**
+   * Loads the cached metadata of the classes in the given package and its
+   * subpackages.
+   *
+   * @param packageName the package to scan
+   * @return the time spent on each class.
+   * @throws IllegalArgumentException if the package has more classes than
+   *                                  the caches can keep
+   * @see #warmUp(Collection)
+   * @since 5.2
+   */
+  public static Map<Class<?>, Duration> warmUp(String packageName) {
+    List<Class<?>> classes = new ArrayList<>();
+    for (Class<?> type : ClassScan.scan().classes().deep().in(packageName)) {
+      classes.add(type);
+    }
+    return warmUp(classes);
+  }
+
   /**
    * @return an iterable Class hierarchy for use in "foreach" loops.
    * @see ClassIterator
@@ -35,14 +35,20 @@ public class ReflectionPredicates {
    */
   public static <T extends AnnotatedElement> Predicate<T> annotatedWith(
       final Class<? extends Annotation> annotationType) {
-    return element -> element.isAnnotationPresent(annotationType);
+    return element -> element instanceof Member ?
+        MemberMetadata.isAnnotationPresent((Member) element, annotationType) :
+        element instanceof Class ?
+            AnnotationIndex.of(element).isPresent(annotationType) :
+            element.isAnnotationPresent(annotationType);
   }
 
   /**
    * A predicate that returns <code>true</code> if the element has annotations.
    */
   public static final Predicate<AnnotatedElement> annotated() {
-    return element -> element.getDeclaredAnnotations().length > 0;
+    return element -> element instanceof Member ?
+        MemberMetadata.isAnnotated((Member) element) :
+        element.getDeclaredAnnotations().length > 0;
   }
 
   /**
@@ -58,15 +64,12 @@ public class ReflectionPredicates {
    * specified modifiers.
    */
   public static <T extends Member> Predicate<T> declaring(int... modifiers) {
-    return element -> {
-      int elModifiers = element.getModifiers();
-      for (int mod : modifiers) {
-        if ((elModifiers & mod) != 0) {
-          return true;
-        }
-      }
-      return false;
-    };
+    int mask = 0;
+    for (int mod : modifiers) {
+      mask |= mod;
+    }
+    int modifiersMask = mask;
+    return element -> (element.getModifiers() & modifiersMask) != 0;
   }
 
 }
@@ -125,6 +125,11 @@ public interface Reflector {
    * This method returns the interfaces found in every class of the target hierarchy.
    * <i>For a set of the interfaces implemented only by the target in question, use the
    * {@link Class#getInterfaces()} method.</i>
+   * <p>
+   * The interfaces are listed in a deterministic order: the ones declared by
+   * the target come first, each one followed by the interfaces it extends,
+   * and then the ones declared by its superclasses. The returned list is
+   * immutable.
    *
    * @return the component used for selection.
    */
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.ReflectionException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Helper for checking invocation arguments against parameter types using the
+ * same rules of the Java Reflection API (unboxing followed by a widening
+ * primitive conversion).
+ *
+ * @since 5.2
+ */
+final class Arguments {
+
+  static final Object[] NONE = new Object[0];
+
+  private static final Map<Class<?>, Class<?>> primitives;
+
+  static {
+    primitives = new HashMap<Class<?>, Class<?>>() {{
+      put(Byte.class, byte.class);
+      put(Short.class, short.class);
+      put(Integer.class, int.class);
+      put(Long.class, long.class);
+      put(Character.class, char.class);
+      put(Float.class, float.class);
+      put(Double.class, double.class);
+      put(Boolean.class, boolean.class);
+    }};
+  }
+
+  private Arguments() {
+  }
+
+  /**
+   * Checks if the given arguments can be passed to the given parameter types.
+   *
+   * @throws ReflectionException with an {@link IllegalArgumentException} as
+   *                             the cause if the arguments are not compatible.
+   */
+  static void check(Class<?>[] parameterTypes, Object[] args) {
+    if (parameterTypes.length != args.length) {
+      throw new ReflectionException(
+          new IllegalArgumentException("wrong number of arguments"));
+    }
+    for (int i = 0; i < args.length; i++) {
+      if (!isAssignable(parameterTypes[i], args[i])) {
+        throw new ReflectionException(
+            new IllegalArgumentException("argument type mismatch"));
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the given argument can be passed to a
+   * parameter of the given type.
+   */
+  static boolean isAssignable(Class<?> parameterType, Object arg) {
+    if (parameterType.isPrimitive()) {
+      return arg != null &&
+          isWidening(primitives.get(arg.getClass()), parameterType);
+    }
+    return arg == null || parameterType.isInstance(arg);
+  }
+
+  /**
+   * Checks if an argument of the given class can be passed to a parameter of
+   * the given type.
+   *
+   * @param parameterType the parameter type
+   * @param argType       the class of the argument or <code>null</code> for
+   *                      a <code>null</code> argument
+   * @param unboxing      if an unboxing conversion is allowed
+   */
+  static boolean isApplicable(Class<?> parameterType, Class<?> argType,
+                              boolean unboxing) {
+    if (parameterType.isPrimitive()) {
+      return unboxing && argType != null &&
+          isWidening(primitives.get(argType), parameterType);
+    }
+    return argType == null || parameterType.isAssignableFrom(argType);
+  }
+
+  /**
+   * @return the classes of the given arguments, using <code>null</code> for
+   * <code>null</code> arguments.
+   */
+  static Class<?>[] typesOf(Object[] args) {
+    Class<?>[] types = new Class<?>[args.length];
+    for (int i = 0; i < args.length; i++) {
+      types[i] = args[i] != null ? args[i].getClass() : null;
+    }
+    return types;
+  }
+
+  /**
+   * Converts the arguments passed to primitive parameters so they match the
+   * exact wrapper type of their parameters. The arguments should be previously
+   * {@link #check(Class[], Object[]) checked}.
+   *
+   * @return the given arguments or a converted copy of them.
+   */
+  static Object[] widen(Class<?>[] parameterTypes, Object[] args) {
+    Object[] result = args;
+    for (int i = 0; i < args.length; i++) {
+      Class<?> type = parameterTypes[i];
+      if (type.isPrimitive() && primitives.get(args[i].getClass()) != type) {
+        if (result == args) {
+          result = args.clone();
+        }
+        result[i] = widen(type, args[i]);
+      }
+    }
+    return result;
+  }
+
+  private static Object widen(Class<?> type, Object arg) {
+    Number number = arg instanceof Character ?
+        Integer.valueOf((Character) arg) : (Number) arg;
+    if (type == short.class) {
+      return number.shortValue();
+    } else if (type == int.class) {
+      return number.intValue();
+    } else if (type == long.class) {
+      return number.longValue();
+    } else if (type == float.class) {
+      return number.floatValue();
+    }
+    return number.doubleValue();
+  }
+
+  /**
+   * @return <code>true</code> if the primitive type <code>from</code> is
+   * identical to or can be converted to <code>to</code> by a widening
+   * primitive conversion.
+   */
+  static boolean isWidening(Class<?> from, Class<?> to) {
+    if (from == null || from == to) {
+      return from != null;
+    }
+    if (to == double.class) {
+      return from != boolean.class;
+    } else if (to == float.class) {
+      return from != boolean.class && from != double.class;
+    } else if (to == long.class) {
+      return from == int.class || from == short.class ||
+          from == char.class || from == byte.class;
+    } else if (to == int.class) {
+      return from == short.class || from == char.class || from == byte.class;
+    } else if (to == short.class) {
+      return from == byte.class;
+    }
+    return false;
+  }
+
+}
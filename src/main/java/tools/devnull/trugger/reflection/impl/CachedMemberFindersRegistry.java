@@ -0,0 +1,142 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * A registry that computes the members of each class only once, using
+ * another registry, and shares them through immutable views.
+ * <p>
+ * The members are stored in a bounded {@link ClassCache}, so they don't
+ * prevent the classes from being unloaded. The {@link MembersFinder#hierarchy() hierarchy}
+ * finders also share a flattened table with the members of the class
+ * followed by the members of its superclasses.
+ *
+ * @since 5.2
+ */
+public class CachedMemberFindersRegistry implements MemberFindersRegistry {
+
+  private final ClassCache<MemberTable> tables;
+  private final ClassCache<MemberTable> hierarchyTables;
+
+  /**
+   * @param registry the registry used to compute the members of the classes
+   */
+  public CachedMemberFindersRegistry(MemberFindersRegistry registry) {
+    this.tables = ClassCache.create("member tables", DEFAULT_MAXIMUM_SIZE,
+        type -> MemberTable.of(registry, type));
+    this.hierarchyTables = ClassCache.create("member hierarchy tables",
+        DEFAULT_MAXIMUM_SIZE, this::hierarchyTable);
+  }
+
+  private MemberTable hierarchyTable(Class<?> type) {
+    Class<?> superclass = type.getSuperclass();
+    if (superclass == null) {
+      return tables.get(type);
+    }
+    return MemberTable.concat(tables.get(type), hierarchyTables.get(superclass));
+  }
+
+  @Override
+  public MemberFinder<Field> fieldFinder(String name) {
+    return type -> {
+      Field field = tables.get(type).field(name);
+      if (field == null) {
+        throw new NoSuchFieldException(name);
+      }
+      return field;
+    };
+  }
+
+  @Override
+  public MembersFinder<Field> fieldsFinder() {
+    return new CachedMembersFinder<>(MemberTable::fields);
+  }
+
+  @Override
+  public MemberFinder<Method> methodFinder(String name, Class... args) {
+    return type -> {
+      Method method = tables.get(type).method(name, args);
+      if (method == null) {
+        throw new NoSuchMethodException(type.getName() + "." + name +
+            Arrays.toString(args));
+      }
+      return method;
+    };
+  }
+
+  @Override
+  public MembersFinder<Method> methodsFinder() {
+    return new CachedMembersFinder<>(MemberTable::methods);
+  }
+
+  @Override
+  public MembersFinder<Method> methodsFinder(String name) {
+    return new CachedMembersFinder<>(table -> table.methods(name));
+  }
+
+  @Override
+  public MemberFinder<Constructor<?>> constructorFinder(Class... args) {
+    return type -> {
+      Constructor<?> constructor = tables.get(type).constructor(args);
+      if (constructor == null) {
+        throw new NoSuchMethodException(type.getName() + ".<init>" +
+            Arrays.toString(args));
+      }
+      return constructor;
+    };
+  }
+
+  @Override
+  public MembersFinder<Constructor<?>> constructorsFinder() {
+    return new CachedMembersFinder<>(MemberTable::constructors);
+  }
+
+  private class CachedMembersFinder<T extends Member>
+      implements MembersFinder<T> {
+
+    private final Function<MemberTable, List<T>> members;
+
+    private CachedMembersFinder(Function<MemberTable, List<T>> members) {
+      this.members = members;
+    }
+
+    @Override
+    public List<T> find(Class<?> type) {
+      return members.apply(tables.get(type));
+    }
+
+    @Override
+    public MembersFinder<T> hierarchy() {
+      return type -> members.apply(hierarchyTables.get(type));
+    }
+
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.Result;
+import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * A thread-safe selector that remembers the result of another selector for
+ * each class.
+ * <p>
+ * The results are stored in a bounded {@link ClassCache}, so a compiled
+ * selector can be kept in a static field without preventing the classes from
+ * being unloaded.
+ *
+ * @param <T> the result type
+ * @since 5.2
+ */
+public class CompiledSelector<T> implements Result<T, Object> {
+
+  private final ClassCache<Optional<T>> results;
+
+  private CompiledSelector(Result<T, Object> selector,
+                           Function<T, T> sharing) {
+    this.results = ClassCache.create("compiled selector", DEFAULT_MAXIMUM_SIZE,
+        type -> Optional.ofNullable(selector.in(type)).map(sharing));
+  }
+
+  /**
+   * Compiles a selector for a single member.
+   */
+  public static <T> CompiledSelector<T> of(Result<T, Object> selector) {
+    return new CompiledSelector<>(selector, Function.identity());
+  }
+
+  /**
+   * Compiles a selector for a list of members. The cached lists are
+   * immutable, since they are shared by every call.
+   */
+  public static <T> CompiledSelector<List<T>> ofList(
+      Result<List<T>, Object> selector) {
+    return new CompiledSelector<>(selector, Collections::unmodifiableList);
+  }
+
+  @Override
+  public T in(Object target) {
+    return results.get(Utils.resolveType(target)).orElse(null);
+  }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.ConstructorInvoker;
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.reflection.ReflectionException;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * An implementation for invoking {@link Constructor} objects through a
+ * factory created only once for each constructor.
+ * <p>
+ * Public constructors of public classes taking up to three parameters are
+ * turned into functional objects using the {@link LambdaMetafactory}, which
+ * makes the instantiation as fast as a direct constructor call. The other
+ * constructors are invoked through a {@link MethodHandle}.
+ * <p>
+ * The invokers are kept with the class that declares the constructor and are
+ * never evicted, since generating a factory again would define a new class.
+ * <p>
+ * The arguments are checked using the same rules of
+ * {@link Constructor#newInstance(Object...)} and any exception thrown by the
+ * constructor is wrapped in a {@link ReflectionException}.
+ *
+ * @since 5.2
+ */
+public class ConstructorFactoryInvoker implements ConstructorInvoker {
+
+  // the invokers grouped by the declaring classes of their constructors
+  private static final ClassValue<Map<Constructor<?>, ConstructorFactoryInvoker>>
+      invokers = new ClassValue<Map<Constructor<?>, ConstructorFactoryInvoker>>() {
+        @Override
+        protected Map<Constructor<?>, ConstructorFactoryInvoker> computeValue(
+            Class<?> type) {
+          return new ConcurrentHashMap<>(4);
+        }
+      };
+
+  private final Class<?>[] parameterTypes;
+  private final Factory factory;
+  private final boolean generated;
+
+  private ConstructorFactoryInvoker(Constructor<?> constructor, Factory factory,
+                                    boolean generated) {
+    this.parameterTypes = constructor.getParameterTypes();
+    this.factory = factory;
+    this.generated = generated;
+  }
+
+  /**
+   * Returns the invoker for the given constructor.
+   *
+   * @param constructor the constructor to invoke
+   * @return the invoker for the given constructor or <code>null</code> if the
+   * constructor cannot be unreflected.
+   */
+  public static ConstructorFactoryInvoker of(Constructor<?> constructor) {
+    Map<Constructor<?>, ConstructorFactoryInvoker> classInvokers =
+        invokers.get(constructor.getDeclaringClass());
+    ConstructorFactoryInvoker invoker = classInvokers.get(constructor);
+    if (invoker == null) {
+      invoker = create(constructor);
+      if (invoker == null) {
+        return null;
+      }
+      classInvokers.putIfAbsent(constructor, invoker);
+    }
+    return invoker;
+  }
+
+  private static ConstructorFactoryInvoker create(Constructor<?> constructor) {
+    Class<?> type = constructor.getDeclaringClass();
+    if (Modifier.isAbstract(type.getModifiers()) || type.isEnum()) {
+      // let the Reflection API report the error
+      return null;
+    }
+    if (!constructor.isAccessible()) {
+      Reflection.setAccessible(constructor);
+    }
+    MethodHandle handle;
+    try {
+      handle = MethodHandles.lookup().unreflectConstructor(constructor)
+          .asFixedArity();
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+    if (isLinkable(constructor)) {
+      try {
+        Factory factory = generate(handle);
+        if (factory != null) {
+          return new ConstructorFactoryInvoker(constructor, factory, true);
+        }
+      } catch (Throwable e) {
+        // uses the method handle
+      }
+    }
+    MethodHandle spreader = handle.asType(handle.type().generic())
+        .asSpreader(Object[].class, constructor.getParameterCount())
+        .asType(methodType(Object.class, Object[].class));
+    return new ConstructorFactoryInvoker(constructor,
+        args -> spreader.invokeExact(args), false);
+  }
+
+  // checks if a generated class can call the constructor directly
+  private static boolean isLinkable(Constructor<?> constructor) {
+    Class<?> type = constructor.getDeclaringClass();
+    if (!Modifier.isPublic(constructor.getModifiers()) ||
+        !Modifier.isPublic(type.getModifiers())) {
+      return false;
+    }
+    try {
+      ClassLoader classLoader = ConstructorFactoryInvoker.class.getClassLoader();
+      return Class.forName(type.getName(), false, classLoader) == type;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static Factory generate(MethodHandle handle) throws Throwable {
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    MethodType type = handle.type().wrap();
+    switch (type.parameterCount()) {
+      case 0:
+        Supplier<Object> supplier =
+            (Supplier<Object>) LambdaMetafactory.metafactory(
+            lookup, "get", methodType(Supplier.class),
+            type.generic(), handle, type
+        ).getTarget().invoke();
+        return args -> supplier.get();
+      case 1:
+        Function<Object, Object> function =
+            (Function<Object, Object>) LambdaMetafactory.metafactory(
+            lookup, "apply", methodType(Function.class),
+            type.generic(), handle, type
+        ).getTarget().invoke();
+        return args -> function.apply(args[0]);
+      case 2:
+        BiFunction<Object, Object, Object> biFunction =
+            (BiFunction<Object, Object, Object>) LambdaMetafactory.metafactory(
+            lookup, "apply", methodType(BiFunction.class),
+            type.generic(), handle, type
+        ).getTarget().invoke();
+        return args -> biFunction.apply(args[0], args[1]);
+      case 3:
+        TriFunction triFunction = (TriFunction) LambdaMetafactory.metafactory(
+            lookup, "apply", methodType(TriFunction.class),
+            type.generic(), handle, type
+        ).getTarget().invoke();
+        return args -> triFunction.apply(args[0], args[1], args[2]);
+      default:
+        return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  public <E> E withArgs(Object... args) {
+    Object[] arguments = args != null ? args : Arguments.NONE;
+    Arguments.check(parameterTypes, arguments);
+    if (generated) {
+      arguments = Arguments.widen(parameterTypes, arguments);
+    }
+    try {
+      return (E) factory.create(arguments);
+    } catch (Throwable e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+  public <E> E withoutArgs() {
+    return withArgs(Arguments.NONE);
+  }
+
+  private interface Factory {
+
+    Object create(Object[] args) throws Throwable;
+
+  }
+
+  interface TriFunction {
+
+    Object apply(Object arg1, Object arg2, Object arg3);
+
+  }
+
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.reflection.ReflectionException;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * The instance fields of a class and its superclasses, used to copy the
+ * state of an object into another object of the same class.
+ * <p>
+ * Each field has a dedicated copier, so primitive values are copied through
+ * the primitive accessors of {@link Field} without boxing. The layouts are
+ * kept in a {@link ClassCache}.
+ *
+ * @since 5.2
+ */
+public final class FieldLayout {
+
+  private static final ClassCache<FieldLayout> layouts =
+      ClassCache.create("field layouts", DEFAULT_MAXIMUM_SIZE,
+          FieldLayout::new);
+
+  private final Class<?> type;
+  private final List<Field> fields;
+  private final FieldCopier[] copiers;
+
+  private FieldLayout(Class<?> type) {
+    this.type = type;
+    List<Field> fields = new ArrayList<>();
+    for (Class<?> c = type; c != null && c != Object.class;
+         c = c.getSuperclass()) {
+      for (Field field : c.getDeclaredFields()) {
+        if (!Modifier.isStatic(field.getModifiers())) {
+          fields.add(field);
+        }
+      }
+    }
+    this.fields = Collections.unmodifiableList(fields);
+    try {
+      Reflection.setAccessible(fields.toArray(new Field[fields.size()]));
+    } catch (RuntimeException e) {
+      throw new ReflectionException(e);
+    }
+    this.copiers = new FieldCopier[fields.size()];
+    for (int i = 0; i < copiers.length; i++) {
+      copiers[i] = copierFor(fields.get(i));
+    }
+  }
+
+  /**
+   * Returns the layout of the given class.
+   *
+   * @param type the class
+   * @return the layout of the class.
+   * @throws ReflectionException if the fields of the class cannot be accessed
+   */
+  public static FieldLayout of(Class<?> type) {
+    return layouts.get(type);
+  }
+
+  /**
+   * @return an immutable list of the instance fields, starting by the ones
+   * declared in the class.
+   */
+  public List<Field> fields() {
+    return fields;
+  }
+
+  /**
+   * @return <code>true</code> if any of the instance fields is
+   * <code>final</code>.
+   */
+  public boolean hasFinalFields() {
+    for (Field field : fields) {
+      if (Modifier.isFinal(field.getModifiers())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Copies the value of every instance field (including the
+   * <code>final</code> ones) from one object to another.
+   *
+   * @param src  the source object
+   * @param dest the destination object
+   * @throws IllegalArgumentException if one of the objects is not an instance
+   *                                  of the class of this layout
+   */
+  public void copy(Object src, Object dest) {
+    copy(src, dest, true);
+  }
+
+  /**
+   * Copies the value of every instance field from one object to another.
+   *
+   * @param src      the source object
+   * @param dest     the destination object
+   * @param copyNull if <code>null</code> references should be copied
+   * @throws IllegalArgumentException if one of the objects is not an instance
+   *                                  of the class of this layout
+   */
+  public void copy(Object src, Object dest, boolean copyNull) {
+    if (!type.isInstance(src) || !type.isInstance(dest)) {
+      throw new IllegalArgumentException(
+          "Both objects must be instances of " + type.getName());
+    }
+    try {
+      for (FieldCopier copier : copiers) {
+        copier.copy(src, dest, copyNull);
+      }
+    } catch (IllegalAccessException e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+  /**
+   * Creates a new instance of the class of this layout, using the constructor
+   * without parameters, and copies the fields of the given object to it.
+   *
+   * @param object the object to clone
+   * @return the created object.
+   * @throws ReflectionException if the class doesn't declare a constructor
+   *                             without parameters
+   */
+  public <E> E clone(E object) {
+    Constructor<?> constructor = Reflection.reflect().constructor()
+        .withoutParameters().in(type);
+    if (constructor == null) {
+      throw new ReflectionException(
+          "No constructor without parameters in " + type.getName());
+    }
+    E copy = Reflection.invoke(constructor).withoutArgs();
+    copy(object, copy);
+    return copy;
+  }
+
+  private static FieldCopier copierFor(Field field) {
+    Class<?> fieldType = field.getType();
+    if (!fieldType.isPrimitive()) {
+      return (src, dest, copyNull) -> {
+        Object value = field.get(src);
+        if (value != null || copyNull) {
+          field.set(dest, value);
+        }
+      };
+    } else if (fieldType == int.class) {
+      return (src, dest, copyNull) -> field.setInt(dest, field.getInt(src));
+    } else if (fieldType == long.class) {
+      return (src, dest, copyNull) -> field.setLong(dest, field.getLong(src));
+    } else if (fieldType == double.class) {
+      return (src, dest, copyNull) ->
+          field.setDouble(dest, field.getDouble(src));
+    } else if (fieldType == boolean.class) {
+      return (src, dest, copyNull) ->
+          field.setBoolean(dest, field.getBoolean(src));
+    } else if (fieldType == float.class) {
+      return (src, dest, copyNull) -> field.setFloat(dest, field.getFloat(src));
+    } else if (fieldType == char.class) {
+      return (src, dest, copyNull) -> field.setChar(dest, field.getChar(src));
+    } else if (fieldType == short.class) {
+      return (src, dest, copyNull) -> field.setShort(dest, field.getShort(src));
+    } else {
+      return (src, dest, copyNull) -> field.setByte(dest, field.getByte(src));
+    }
+  }
+
+  @FunctionalInterface
+  private interface FieldCopier {
+
+    void copy(Object src, Object dest, boolean copyNull)
+        throws IllegalAccessException;
+
+  }
+
+}
@@ -22,39 +22,148 @@ import tools.devnull.trugger.ValueHandler;
 import tools.devnull.trugger.reflection.FieldHandler;
 import tools.devnull.trugger.reflection.Reflection;
 import tools.devnull.trugger.selector.FieldSelector;
+import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
-import java.lang.reflect.Field;
+import java.util.Map;
 
+/**
+ * A handler for the field selected by a {@link FieldSelector}.
+ * <p>
+ * The selected fields are kept in an {@link InlineCache inline cache} keyed
+ * by the target class, so the selection runs only once for each class.
+ */
 public class FieldSelectorHandler implements FieldHandler {
 
+  private static final ClassCache<Map<Object, FieldHandler>> handlers =
+      InlineCache.sharedTable("selected fields");
+
   private final FieldSelector selector;
   private final Object target;
+  private final InlineCache<FieldHandler> cache;
 
   public FieldSelectorHandler(FieldSelector selector) {
-    this.selector = selector;
-    this.target = null;
+    this(selector, null);
   }
 
   public FieldSelectorHandler(FieldSelector selector, Object target) {
+    this(selector, target, new InlineCache<>(sharingKey(selector), handlers,
+        type -> Reflection.handle(selector.in(type))));
+  }
+
+  // only selectors that are equal by value share their handlers
+  private static Object sharingKey(FieldSelector selector) {
+    return selector instanceof TruggerFieldSelector &&
+        !((TruggerFieldSelector) selector).isFiltered() ? selector : null;
+  }
+
+  private FieldSelectorHandler(FieldSelector selector, Object target,
+                               InlineCache<FieldHandler> cache) {
     this.selector = selector;
     this.target = target;
+    this.cache = cache;
+  }
+
+  private ValueHandler handler() {
+    if (target == null) {
+      return Reflection.handle(selector.in(target));
+    }
+    return cache.get(Utils.resolveType(target)).in(target);
   }
 
   @Override
   public <E> E value() throws HandlingException {
-    Field field = selector.in(target);
-    return Reflection.handle(field).in(target).value();
+    return handler().value();
   }
 
   @Override
   public void set(Object value) throws HandlingException {
-    Field field = selector.in(target);
-    Reflection.handle(field).in(target).set(value);
+    handler().set(value);
   }
 
   @Override
   public ValueHandler in(Object source) {
-    return new FieldSelectorHandler(selector, source);
+    return new FieldSelectorHandler(selector, source, cache);
+  }
+
+  @Override
+  public boolean booleanValue() throws HandlingException {
+    return handler().booleanValue();
+  }
+
+  @Override
+  public byte byteValue() throws HandlingException {
+    return handler().byteValue();
+  }
+
+  @Override
+  public short shortValue() throws HandlingException {
+    return handler().shortValue();
+  }
+
+  @Override
+  public char charValue() throws HandlingException {
+    return handler().charValue();
+  }
+
+  @Override
+  public int intValue() throws HandlingException {
+    return handler().intValue();
+  }
+
+  @Override
+  public long longValue() throws HandlingException {
+    return handler().longValue();
+  }
+
+  @Override
+  public float floatValue() throws HandlingException {
+    return handler().floatValue();
+  }
+
+  @Override
+  public double doubleValue() throws HandlingException {
+    return handler().doubleValue();
+  }
+
+  @Override
+  public void setBoolean(boolean value) throws HandlingException {
+    handler().setBoolean(value);
+  }
+
+  @Override
+  public void setByte(byte value) throws HandlingException {
+    handler().setByte(value);
+  }
+
+  @Override
+  public void setShort(short value) throws HandlingException {
+    handler().setShort(value);
+  }
+
+  @Override
+  public void setChar(char value) throws HandlingException {
+    handler().setChar(value);
+  }
+
+  @Override
+  public void setInt(int value) throws HandlingException {
+    handler().setInt(value);
+  }
+
+  @Override
+  public void setLong(long value) throws HandlingException {
+    handler().setLong(value);
+  }
+
+  @Override
+  public void setFloat(float value) throws HandlingException {
+    handler().setFloat(value);
+  }
+
+  @Override
+  public void setDouble(double value) throws HandlingException {
+    handler().setDouble(value);
   }
 
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * A small polymorphic inline cache for values computed from the class of a
+ * target.
+ * <p>
+ * The values for the first classes are kept in a tiny list scanned by
+ * identity. Once more classes show up, the cache becomes megamorphic and
+ * starts using a shared table, keyed by the class and by an object that
+ * identifies what is being computed (usually a selector), which is also
+ * consulted before computing a value for a new class. Caches without a key
+ * (like the ones for selectors filtered by lambdas, which are only equal to
+ * themselves) never use the shared table.
+ *
+ * @param <V> the type of the cached values
+ * @since 5.2
+ */
+final class InlineCache<V> {
+
+  private static final int MAX_ENTRIES = 4;
+  private static final int MAX_SHARED_ENTRIES = 256;
+
+  private final Object key;
+  private final ClassCache<Map<Object, V>> shared;
+  private final Function<Class<?>, V> loader;
+
+  private volatile Entry<V> entries;
+
+  /**
+   * @param key    the key for the shared table or <code>null</code> if the
+   *               values must not be shared. Equal keys must produce equal
+   *               values for the same class.
+   * @param shared the shared table
+   * @param loader the function for computing the values
+   */
+  InlineCache(Object key, ClassCache<Map<Object, V>> shared,
+              Function<Class<?>, V> loader) {
+    this.key = key;
+    this.shared = shared;
+    this.loader = loader;
+  }
+
+  /**
+   * Creates a new shared table for inline caches.
+   *
+   * @param name the name of the table
+   */
+  static <V> ClassCache<Map<Object, V>> sharedTable(String name) {
+    return ClassCache.create(name, DEFAULT_MAXIMUM_SIZE,
+        type -> new ConcurrentHashMap<>(8));
+  }
+
+  V get(Class<?> type) {
+    Entry<V> current = entries;
+    for (Entry<V> entry = current; entry != null; entry = entry.next) {
+      if (entry.type == type) {
+        return entry.value;
+      }
+    }
+    V value = lookup(type);
+    int size = current != null ? current.size : 0;
+    if (size < MAX_ENTRIES) {
+      entries = new Entry<>(type, value, current);
+    }
+    return value;
+  }
+
+  private V lookup(Class<?> type) {
+    if (key == null) {
+      return loader.apply(type);
+    }
+    Map<Object, V> table = shared.get(type);
+    V value = table.get(key);
+    if (value == null) {
+      value = loader.apply(type);
+      if (table.size() < MAX_SHARED_ENTRIES) {
+        table.putIfAbsent(key, value);
+      }
+    }
+    return value;
+  }
+
+  private static class Entry<V> {
+
+    private final Class<?> type;
+    private final V value;
+    private final Entry<V> next;
+    private final int size;
+
+    private Entry(Class<?> type, V value, Entry<V> next) {
+      this.type = type;
+      this.value = value;
+      this.next = next;
+      this.size = next != null ? next.size + 1 : 1;
+    }
+
+  }
+
+}
@@ -20,6 +20,7 @@ package tools.devnull.trugger.reflection.impl;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.stream.Collectors;
 
 /** @author Marcelo Guimarães */
 public interface MemberFindersRegistry {
@@ -32,6 +33,21 @@ public interface MemberFindersRegistry {
 
   MembersFinder<Method> methodsFinder();
 
+  /**
+   * Returns a finder for the methods with the given name. Implementations
+   * that index the methods by name should override this method.
+   *
+   * @param name the name of the methods
+   * @return a finder for the methods with the given name
+   * @since 5.2
+   */
+  default MembersFinder<Method> methodsFinder(String name) {
+    MembersFinder<Method> finder = methodsFinder();
+    return type -> finder.find(type).stream()
+        .filter(method -> method.getName().equals(name))
+        .collect(Collectors.toList());
+  }
+
   MemberFinder<Constructor<?>> constructorFinder(Class... args);
 
   MembersFinder<Constructor<?>> constructorsFinder();
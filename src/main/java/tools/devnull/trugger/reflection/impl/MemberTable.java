@@ -0,0 +1,186 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The members of a class, computed only once by a {@link MemberFindersRegistry}
+ * and exposed as immutable views.
+ *
+ * @since 5.2
+ */
+final class MemberTable {
+
+  private static final Class[] NO_PARAMETERS = new Class[0];
+
+  private final Field[] fields;
+  private final Method[] methods;
+  private final Constructor<?>[] constructors;
+  private final Class[][] constructorParameters;
+
+  private final List<Field> fieldList;
+  private final List<Method> methodList;
+  private final List<Constructor<?>> constructorList;
+
+  private final Map<String, List<Method>> methodsByName;
+
+  private MemberTable(List<Field> fields, List<Method> methods,
+                      List<Constructor<?>> constructors) {
+    this.fields = fields.toArray(new Field[fields.size()]);
+    this.methods = methods.toArray(new Method[methods.size()]);
+    this.constructors = constructors.toArray(new Constructor<?>[constructors.size()]);
+
+    this.constructorParameters = new Class[this.constructors.length][];
+    for (int i = 0; i < this.constructors.length; i++) {
+      constructorParameters[i] = this.constructors[i].getParameterTypes();
+    }
+
+    this.fieldList = Collections.unmodifiableList(Arrays.asList(this.fields));
+    this.methodList = Collections.unmodifiableList(Arrays.asList(this.methods));
+    this.constructorList =
+        Collections.unmodifiableList(Arrays.asList(this.constructors));
+    this.methodsByName = indexByName(this.methods);
+  }
+
+  /**
+   * Creates a table with the members of the given type.
+   */
+  static MemberTable of(MemberFindersRegistry registry, Class<?> type) {
+    return new MemberTable(
+        registry.fieldsFinder().find(type),
+        registry.methodsFinder().find(type),
+        registry.constructorsFinder().find(type)
+    );
+  }
+
+  /**
+   * Creates a table with the members of the given table followed by the
+   * members of the other one.
+   */
+  static MemberTable concat(MemberTable table, MemberTable other) {
+    return new MemberTable(
+        concat(table.fieldList, other.fieldList),
+        concat(table.methodList, other.methodList),
+        concat(table.constructorList, other.constructorList)
+    );
+  }
+
+  private static <T> List<T> concat(List<T> list, List<T> other) {
+    List<T> result = new ArrayList<>(list.size() + other.size());
+    result.addAll(list);
+    result.addAll(other);
+    return result;
+  }
+
+  private static Map<String, List<Method>> indexByName(Method[] methods) {
+    Map<String, List<Method>> index = new HashMap<>();
+    for (Method method : methods) {
+      index.computeIfAbsent(method.getName(), name -> new ArrayList<>(1))
+          .add(method);
+    }
+    for (Map.Entry<String, List<Method>> entry : index.entrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+    return index;
+  }
+
+  List<Field> fields() {
+    return fieldList;
+  }
+
+  List<Method> methods() {
+    return methodList;
+  }
+
+  List<Constructor<?>> constructors() {
+    return constructorList;
+  }
+
+  /**
+   * @return the methods with the given name, in the same order of
+   * {@link #methods()}.
+   */
+  List<Method> methods(String name) {
+    List<Method> result = methodsByName.get(name);
+    return result != null ? result : Collections.emptyList();
+  }
+
+  /**
+   * @return the first field with the given name or <code>null</code> if there
+   * is no field with that name.
+   */
+  Field field(String name) {
+    for (Field field : fields) {
+      if (field.getName().equals(name)) {
+        return field;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Searches for a method with the given name and parameter types. If more
+   * than one method is found (because of covariant return types), the one
+   * with the most specific return type is returned, just like
+   * {@link Class#getDeclaredMethod(String, Class[])}.
+   *
+   * @return the found method or <code>null</code> if no method matches.
+   */
+  Method method(String name, Class[] parameterTypes) {
+    Class[] types = parameterTypes != null ? parameterTypes : NO_PARAMETERS;
+    Method result = null;
+    for (Method method : methods(name)) {
+      if (method.getParameterCount() == types.length
+          && Arrays.equals(method.getParameterTypes(), types)
+          && (result == null || isMoreSpecific(method, result))) {
+        result = method;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the constructor with the given parameter types or
+   * <code>null</code> if no constructor matches.
+   */
+  Constructor<?> constructor(Class[] parameterTypes) {
+    Class[] types = parameterTypes != null ? parameterTypes : NO_PARAMETERS;
+    for (int i = 0; i < constructors.length; i++) {
+      if (Arrays.equals(constructorParameters[i], types)) {
+        return constructors[i];
+      }
+    }
+    return null;
+  }
+
+  private static boolean isMoreSpecific(Method method, Method other) {
+    Class<?> returnType = other.getReturnType();
+    return returnType != method.getReturnType()
+        && returnType.isAssignableFrom(method.getReturnType());
+  }
+
+}
@@ -16,7 +16,10 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
+import tools.devnull.trugger.reflection.Reflection;
+
 import java.lang.reflect.Member;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -34,5 +37,22 @@ public interface MembersFinder<T extends Member> {
    * @return the found object.
    */
   List<T> find(Class<?> type);
-  
+
+  /**
+   * Returns a finder that searches for the members in the given type and in
+   * all of its superclasses, in that order.
+   *
+   * @return a finder for the members of the whole class hierarchy.
+   * @since 5.2
+   */
+  default MembersFinder<T> hierarchy() {
+    return type -> {
+      List<T> result = new ArrayList<>();
+      for (Class c : Reflection.hierarchyOf(type)) {
+        result.addAll(find(c));
+      }
+      return result;
+    };
+  }
+
 }
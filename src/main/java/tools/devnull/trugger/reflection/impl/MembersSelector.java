@@ -20,13 +20,10 @@ import tools.devnull.trugger.Result;
 import tools.devnull.trugger.util.Utils;
 
 import java.lang.reflect.Member;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static tools.devnull.trugger.reflection.Reflection.hierarchyOf;
-
 /**
  * A base class for selecting a set of {@link Member} objects.
  *
@@ -61,14 +58,10 @@ public class MembersSelector<T extends Member>
   }
 
   public final List<T> in(Object target) {
+    Class<?> type = Utils.resolveType(target);
     if (useHierarchy) {
-      final List<T> list = new ArrayList<>();
-      for (Class type : hierarchyOf(target)) {
-        list.addAll(finder.find(type));
-      }
-      return applySelection(list);
+      return applySelection(finder.hierarchy().find(type));
     }
-    Class<?> type = Utils.resolveType(target);
     return applySelection(finder.find(type));
   }
 
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.MethodInvoker;
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.reflection.ReflectionException;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
+/**
+ * An implementation for invoking {@link Method} objects through a
+ * {@link MethodHandle}.
+ * <p>
+ * The handle is created only once for each method and is shared by every
+ * invoker of that method. The arguments are checked using the same rules of
+ * {@link Method#invoke(Object, Object...)} and any exception thrown by the
+ * method is wrapped in a {@link ReflectionException}.
+ *
+ * @since 5.2
+ */
+public class MethodHandleInvoker implements MethodInvoker {
+
+  // the invokers grouped by the declaring classes of their methods
+  private static final ClassCache<Map<Method, MethodHandleInvoker>> invokers =
+      ClassCache.create("method invokers", DEFAULT_MAXIMUM_SIZE,
+          type -> new ConcurrentHashMap<>(8));
+
+  private static final MethodType TYPE =
+      MethodType.methodType(Object.class, Object.class, Object[].class);
+
+  private final Method method;
+  private final MethodHandle handle;
+  private final Class<?>[] parameterTypes;
+  private final boolean isStatic;
+  private final Object instance;
+
+  private MethodHandleInvoker(Method method, MethodHandle handle) {
+    this.method = method;
+    this.handle = handle;
+    this.parameterTypes = method.getParameterTypes();
+    this.isStatic = Reflection.isStatic(method);
+    this.instance = null;
+  }
+
+  private MethodHandleInvoker(MethodHandleInvoker invoker, Object instance) {
+    this.method = invoker.method;
+    this.handle = invoker.handle;
+    this.parameterTypes = invoker.parameterTypes;
+    this.isStatic = invoker.isStatic;
+    this.instance = instance;
+  }
+
+  /**
+   * Returns the invoker for the given method.
+   *
+   * @param method the method to invoke
+   * @return the invoker for the given method or <code>null</code> if the
+   * method cannot be unreflected.
+   */
+  public static MethodHandleInvoker of(Method method) {
+    Map<Method, MethodHandleInvoker> classInvokers =
+        invokers.get(method.getDeclaringClass());
+    MethodHandleInvoker invoker = classInvokers.get(method);
+    if (invoker == null) {
+      MethodHandle handle = createHandle(method);
+      if (handle == null) {
+        return null;
+      }
+      invoker = new MethodHandleInvoker(method, handle);
+      classInvokers.putIfAbsent(method, invoker);
+    }
+    return invoker;
+  }
+
+  // creates a (Object, Object[])Object handle for the given method
+  private static MethodHandle createHandle(Method method) {
+    if (!method.isAccessible()) {
+      Reflection.setAccessible(method);
+    }
+    try {
+      MethodHandle handle = MethodHandles.lookup()
+          .unreflect(method)
+          .asFixedArity();
+      handle = handle.asType(handle.type().generic());
+      if (Reflection.isStatic(method)) {
+        handle = MethodHandles.dropArguments(handle, 0, Object.class);
+      }
+      return handle
+          .asSpreader(Object[].class, method.getParameterCount())
+          .asType(TYPE);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+  public MethodInvoker in(Object instance) {
+    return new MethodHandleInvoker(this, instance);
+  }
+
+  public <E> E withArgs(Object... args) {
+    Object[] arguments = args != null ? args : Arguments.NONE;
+    if (!isStatic) {
+      if (instance == null) {
+        throw new ReflectionException(new NullPointerException());
+      }
+      if (!method.getDeclaringClass().isInstance(instance)) {
+        throw new ReflectionException(new IllegalArgumentException(
+            "object is not an instance of declaring class"));
+      }
+    }
+    Arguments.check(parameterTypes, arguments);
+    try {
+      return (E) handle.invokeExact(instance, arguments);
+    } catch (Throwable e) {
+      throw new ReflectionException(e);
+    }
+  }
+
+  public <E> E withoutArgs() {
+    return withArgs(Arguments.NONE);
+  }
+
+}
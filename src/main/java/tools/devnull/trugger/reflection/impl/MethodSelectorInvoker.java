@@ -21,33 +21,85 @@ import tools.devnull.trugger.Invoker;
 import tools.devnull.trugger.reflection.MethodInvoker;
 import tools.devnull.trugger.reflection.Reflection;
 import tools.devnull.trugger.selector.MethodSelector;
+import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
+/**
+ * An invoker for the method selected by a {@link MethodSelector}.
+ * <p>
+ * The selected methods are kept in an {@link InlineCache inline cache} keyed
+ * by the target class, so the selection runs only once for each class.
+ * <p>
+ * If the selector doesn't specify the parameter types and the target has
+ * overloaded methods, the most specific method for the runtime classes of the
+ * arguments is {@link OverloadedMethod resolved} on each invocation.
+ */
 public class MethodSelectorInvoker implements MethodInvoker {
 
+  private static final ClassCache<Map<Object, Function<Object[], MethodInvoker>>>
+      invokers = InlineCache.sharedTable("selected methods");
+
   private final MethodSelector selector;
   private final Object target;
+  private final InlineCache<Function<Object[], MethodInvoker>> cache;
 
   public MethodSelectorInvoker(MethodSelector selector) {
-    this.selector = selector;
-    this.target = null;
+    this(selector, null);
   }
 
   public MethodSelectorInvoker(MethodSelector selector, Object target) {
+    this(selector, target, new InlineCache<>(sharingKey(selector), invokers,
+        type -> dispatcher(selector, type)));
+  }
+
+  // only selectors that are equal by value share their invokers
+  private static Object sharingKey(MethodSelector selector) {
+    return selector instanceof TruggerMethodSelector &&
+        !((TruggerMethodSelector) selector).isFiltered() ? selector : null;
+  }
+
+  private MethodSelectorInvoker(MethodSelector selector, Object target,
+                                InlineCache<Function<Object[], MethodInvoker>> cache) {
     this.selector = selector;
     this.target = target;
+    this.cache = cache;
+  }
+
+  // creates the function that gives the invoker for a set of arguments
+  private static Function<Object[], MethodInvoker> dispatcher(
+      MethodSelector selector, Class<?> type) {
+    if (selector instanceof TruggerMethodSelector) {
+      List<Method> candidates = ((TruggerMethodSelector) selector).candidates(type);
+      if (candidates != null) {
+        OverloadedMethod overloaded = new OverloadedMethod(candidates);
+        if (overloaded.isOverloaded()) {
+          return overloaded::invokerFor;
+        }
+      }
+    }
+    MethodInvoker invoker = Reflection.invoke(selector.in(type));
+    return args -> invoker;
   }
 
   @Override
   public Invoker in(Object instance) {
-    return new MethodSelectorInvoker(selector, instance);
+    return new MethodSelectorInvoker(selector, instance, cache);
   }
 
   @Override
   public <E> E withArgs(Object... args) {
-    Method method = selector.in(target);
-    return Reflection.invoke(method).in(target).withArgs(args);
+    if (target == null) {
+      Method method = selector.in(target);
+      return Reflection.invoke(method).withArgs(args);
+    }
+    Object[] arguments = args != null ? args : Arguments.NONE;
+    return cache.get(Utils.resolveType(target)).apply(arguments)
+        .in(target).withArgs(arguments);
   }
 
   @Override
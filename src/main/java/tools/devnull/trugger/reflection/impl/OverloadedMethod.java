@@ -0,0 +1,226 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.MethodInvoker;
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.reflection.ReflectionException;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A set of overloaded methods that resolves the most specific method for the
+ * runtime classes of the arguments.
+ * <p>
+ * The resolution follows the first two phases of the Java Language
+ * Specification (15.12.2): methods applicable by subtyping are preferred over
+ * the ones that require unboxing, and widening primitive conversions are
+ * allowed in both phases. Variable arity methods are only applicable to their
+ * exact number of parameters. Each resolution is cached by the classes of the
+ * arguments, unless they come from a class loader that can't be seen by the
+ * declaring class of the resolved method.
+ *
+ * @since 5.2
+ */
+final class OverloadedMethod {
+
+  private static final int MAX_SIGNATURES = 64;
+
+  private final List<Method> candidates;
+  private final Map<Signature, MethodInvoker> invokers =
+      new ConcurrentHashMap<>(8);
+
+  /**
+   * @param methods the methods with the same name, ordered from the most
+   *                derived class to its superclasses
+   */
+  OverloadedMethod(List<Method> methods) {
+    this.candidates = new ArrayList<>(methods.size());
+    for (Method method : methods) {
+      if (!method.isBridge() && !isOverridden(method)) {
+        candidates.add(method);
+      }
+    }
+  }
+
+  // checks if an already added method overrides the given one
+  private boolean isOverridden(Method method) {
+    for (Method candidate : candidates) {
+      if (Arrays.equals(candidate.getParameterTypes(),
+          method.getParameterTypes())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * @return <code>true</code> if there is more than one candidate method
+   */
+  boolean isOverloaded() {
+    return candidates.size() > 1;
+  }
+
+  /**
+   * @return the invoker for the method resolved for the given arguments
+   * @throws ReflectionException if no method is applicable or if more than one
+   *                             method is equally specific
+   */
+  MethodInvoker invokerFor(Object[] args) {
+    Signature signature = new Signature(Arguments.typesOf(args));
+    MethodInvoker invoker = invokers.get(signature);
+    if (invoker == null) {
+      Method method = resolve(signature.types);
+      invoker = Reflection.invoke(method);
+      if (invokers.size() < MAX_SIGNATURES &&
+          isVisible(signature.types, method.getDeclaringClass())) {
+        invokers.putIfAbsent(signature, invoker);
+      }
+    }
+    return invoker;
+  }
+
+  // checks if the given classes are loaded by the loader of the given class
+  // or by one of its parents, so caching them doesn't keep other loaders
+  private static boolean isVisible(Class<?>[] types, Class<?> declaringClass) {
+    ClassLoader loader = declaringClass.getClassLoader();
+    for (Class<?> type : types) {
+      if (type != null && !isVisible(type.getClassLoader(), loader)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isVisible(ClassLoader typeLoader, ClassLoader loader) {
+    if (typeLoader == null) {
+      return true;
+    }
+    for (ClassLoader l = loader; l != null; l = l.getParent()) {
+      if (l == typeLoader) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private Method resolve(Class<?>[] argTypes) {
+    List<Method> applicable = applicable(argTypes, false);
+    if (applicable.isEmpty()) {
+      applicable = applicable(argTypes, true);
+    }
+    if (applicable.isEmpty()) {
+      throw new ReflectionException(new IllegalArgumentException(
+          "No method applicable for " + Arrays.toString(argTypes)));
+    }
+    List<Method> mostSpecific = new ArrayList<>(1);
+    for (Method method : applicable) {
+      if (isMaximallySpecific(method, applicable)) {
+        mostSpecific.add(method);
+      }
+    }
+    if (mostSpecific.size() != 1) {
+      throw new ReflectionException(new IllegalArgumentException(
+          "Ambiguous methods for " + Arrays.toString(argTypes) + ": " +
+              mostSpecific));
+    }
+    return mostSpecific.get(0);
+  }
+
+  private List<Method> applicable(Class<?>[] argTypes, boolean unboxing) {
+    List<Method> result = new ArrayList<>(candidates.size());
+    for (Method candidate : candidates) {
+      if (isApplicable(candidate.getParameterTypes(), argTypes, unboxing)) {
+        result.add(candidate);
+      }
+    }
+    return result;
+  }
+
+  private static boolean isApplicable(Class<?>[] parameterTypes,
+                                      Class<?>[] argTypes, boolean unboxing) {
+    if (parameterTypes.length != argTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < argTypes.length; i++) {
+      if (!Arguments.isApplicable(parameterTypes[i], argTypes[i], unboxing)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isMaximallySpecific(Method method,
+                                             List<Method> methods) {
+    for (Method other : methods) {
+      if (other != method && isMoreSpecific(other, method)
+          && !isMoreSpecific(method, other)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isMoreSpecific(Method method, Method other) {
+    Class<?>[] types = method.getParameterTypes();
+    Class<?>[] otherTypes = other.getParameterTypes();
+    for (int i = 0; i < types.length; i++) {
+      if (!isSubtype(types[i], otherTypes[i])) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isSubtype(Class<?> type, Class<?> other) {
+    if (type.isPrimitive() || other.isPrimitive()) {
+      return type.isPrimitive() && other.isPrimitive()
+          && Arguments.isWidening(type, other);
+    }
+    return other.isAssignableFrom(type);
+  }
+
+  // the classes of the arguments of an invocation
+  private static class Signature {
+
+    private final Class<?>[] types;
+    private final int hash;
+
+    private Signature(Class<?>[] types) {
+      this.types = types;
+      this.hash = Arrays.hashCode(types);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof Signature && Arrays.equals(types, ((Signature) o).types);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection.impl;
+
+import tools.devnull.trugger.reflection.AnnotationIndex;
+import tools.devnull.trugger.reflection.ReflectionException;
+import tools.devnull.trugger.reflection.Reflector;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static tools.devnull.trugger.reflection.Reflection.reflect;
+
+/**
+ * Loads the cached reflection metadata of a class: the member tables of the
+ * default reflectors, the interfaces, the annotation indexes, the resolved
+ * type variables and the bridge methods.
+ *
+ * @since 5.2
+ */
+public final class ReflectionWarmUp {
+
+  private ReflectionWarmUp() {
+  }
+
+  /**
+   * Loads the metadata of the given class. Errors are ignored, since the
+   * metadata of a class that can't be introspected is not cached.
+   *
+   * @param type the class
+   */
+  public static void warmUp(Class<?> type) {
+    try {
+      for (Reflector reflector : new Reflector[]{reflect(), reflect().visible()}) {
+        reflector.fields().deep().in(type);
+        reflector.constructors().in(type);
+        reflector.methods().deep().in(type);
+      }
+      reflect().interfaces().in(type);
+      AnnotationIndex.of(type);
+      TruggerGenericTypeResolver.getTypeVariableMap(type);
+      List<Method> methods = reflect().methods().in(type);
+      for (Method method : methods) {
+        AnnotationIndex.of(method);
+        if (method.isBridge()) {
+          resolveBridge(method);
+        }
+      }
+    } catch (RuntimeException | LinkageError e) {
+      // the metadata will be loaded (and the error raised) on the first use
+    }
+  }
+
+  private static void resolveBridge(Method method) {
+    try {
+      TruggerBridgeMethodResolver.resolve(method);
+    } catch (ReflectionException e) {
+      // the failure is cached as well
+    }
+  }
+
+}
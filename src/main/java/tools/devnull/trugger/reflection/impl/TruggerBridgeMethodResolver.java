@@ -18,6 +18,7 @@ package tools.devnull.trugger.reflection.impl;
 
 import tools.devnull.trugger.reflection.Reflection;
 import tools.devnull.trugger.reflection.ReflectionException;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.Method;
@@ -25,10 +26,12 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import static tools.devnull.trugger.reflection.Reflection.method;
 import static tools.devnull.trugger.reflection.Reflection.methods;
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
 
 /**
  * Helper for resolving synthetic {@link Method#isBridge bridge Methods} to the
@@ -53,6 +56,11 @@ import static tools.devnull.trugger.reflection.Reflection.methods;
  */
 final class TruggerBridgeMethodResolver {
 
+  // the resolutions of the bridge methods, grouped by their declaring classes
+  private static final ClassCache<Map<Method, Resolution>> resolutions =
+    ClassCache.create("bridge methods", DEFAULT_MAXIMUM_SIZE,
+        type -> new ConcurrentHashMap<>(8));
+
   private final Method bridgeMethod;
   private final Map<Type, Type> typeParameterMap;
 
@@ -61,6 +69,37 @@ final class TruggerBridgeMethodResolver {
     this.typeParameterMap = TruggerGenericTypeResolver.getTypeVariableMap(bridgeMethod.getDeclaringClass());
   }
 
+  /**
+   * Find the original method for the supplied {@link Method bridge Method},
+   * resolving it only once for each bridge method.
+   * <p>
+   * Both found and not found bridged methods are remembered, so subsequent
+   * calls don't search the class hierarchy again.
+   *
+   * @param bridgeMethod the bridge method
+   * @return the original method for the supplied {@link Method bridge Method}
+   * @throws ReflectionException if no bridged {@link Method} can be found.
+   * @see #findBridgedMethod()
+   * @since 5.2
+   */
+  static Method resolve(Method bridgeMethod) {
+    if (!bridgeMethod.isBridge()) {
+      return bridgeMethod;
+    }
+    Map<Method, Resolution> classResolutions =
+        resolutions.get(bridgeMethod.getDeclaringClass());
+    Resolution resolution = classResolutions.get(bridgeMethod);
+    if (resolution == null) {
+      // searches outside the map so no lock is held during the search
+      resolution = new Resolution(bridgeMethod);
+      Resolution current = classResolutions.putIfAbsent(bridgeMethod, resolution);
+      if (current != null) {
+        resolution = current;
+      }
+    }
+    return resolution.bridgedMethod();
+  }
+
   /**
    * Find the original method for the supplied {@link Method bridge Method}.
    * <p>
@@ -93,6 +132,33 @@ final class TruggerBridgeMethodResolver {
     return candidateMethods.iterator().next();
   }
 
+  // the outcome of a bridge method resolution
+  private static class Resolution {
+
+    private final Method bridgedMethod;
+    private final ReflectionException error;
+
+    private Resolution(Method bridgeMethod) {
+      Method method = null;
+      ReflectionException exception = null;
+      try {
+        method = new TruggerBridgeMethodResolver(bridgeMethod).findBridgedMethod();
+      } catch (ReflectionException e) {
+        exception = e;
+      }
+      this.bridgedMethod = method;
+      this.error = exception;
+    }
+
+    private Method bridgedMethod() {
+      if (error != null) {
+        throw new ReflectionException(error.getMessage(), error);
+      }
+      return bridgedMethod;
+    }
+
+  }
+
   private class SimpleBridgeCandidatePredicate implements Predicate<Method> {
 
     public boolean test(Method candidateMethod) {
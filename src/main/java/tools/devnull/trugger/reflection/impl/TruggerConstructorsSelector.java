@@ -17,9 +17,12 @@
 package tools.devnull.trugger.reflection.impl;
 
 import tools.devnull.trugger.selector.ConstructorsSelector;
+import tools.devnull.trugger.util.ClassBatch;
 
 import java.lang.reflect.Constructor;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -53,4 +56,10 @@ public final class TruggerConstructorsSelector implements ConstructorsSelector {
     return new MembersSelector<>(finder, predicate).in(target);
   }
 
+  @Override
+  public Map<Class<?>, List<Constructor<?>>> inAll(
+      Collection<? extends Class<?>> types, int parallelism) {
+    return ClassBatch.apply(types, this::in, parallelism);
+  }
+
 }
@@ -25,6 +25,9 @@ import java.lang.reflect.Field;
 
 /**
  * Implementation for the FieldHandler interface.
+ * <p>
+ * The primitive accessors use the typed methods of {@link Field}, so the
+ * values are not boxed.
  * 
  * @author Marcelo Guimarães
  */
@@ -81,5 +84,149 @@ public class TruggerFieldHandler implements FieldHandler {
   public ValueHandler in(Object source) {
     return new TruggerFieldHandler(field, source);
   }
+
+  @Override
+  public boolean booleanValue() throws HandlingException {
+    try {
+      return field.getBoolean(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public byte byteValue() throws HandlingException {
+    try {
+      return field.getByte(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public short shortValue() throws HandlingException {
+    try {
+      return field.getShort(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public char charValue() throws HandlingException {
+    try {
+      return field.getChar(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public int intValue() throws HandlingException {
+    try {
+      return field.getInt(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public long longValue() throws HandlingException {
+    try {
+      return field.getLong(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public float floatValue() throws HandlingException {
+    try {
+      return field.getFloat(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public double doubleValue() throws HandlingException {
+    try {
+      return field.getDouble(instance);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setBoolean(boolean value) throws HandlingException {
+    try {
+      field.setBoolean(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setByte(byte value) throws HandlingException {
+    try {
+      field.setByte(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setShort(short value) throws HandlingException {
+    try {
+      field.setShort(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setChar(char value) throws HandlingException {
+    try {
+      field.setChar(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setInt(int value) throws HandlingException {
+    try {
+      field.setInt(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setLong(long value) throws HandlingException {
+    try {
+      field.setLong(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setFloat(float value) throws HandlingException {
+    try {
+      field.setFloat(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
+
+  @Override
+  public void setDouble(double value) throws HandlingException {
+    try {
+      field.setDouble(instance, value);
+    } catch (Exception e) {
+      throw new HandlingException(e);
+    }
+  }
   
 }
@@ -16,9 +16,11 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
+import tools.devnull.trugger.Result;
 import tools.devnull.trugger.selector.FieldSelector;
 
 import java.lang.reflect.Field;
+import java.util.Objects;
 import java.util.function.Predicate;
 
 /**
@@ -62,4 +64,37 @@ public class TruggerFieldSelector implements FieldSelector {
         registry.fieldFinder(name), predicate, recursively).in(target);
   }
 
+  @Override
+  public Result<Field, Object> compile() {
+    return CompiledSelector.of(this);
+  }
+
+  /**
+   * @return <code>true</code> if this selector has a predicate. Predicates
+   * are usually lambdas, so filtered selectors are only equal to themselves.
+   */
+  boolean isFiltered() {
+    return predicate != null;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TruggerFieldSelector other = (TruggerFieldSelector) o;
+    return recursively == other.recursively
+        && name.equals(other.name)
+        && registry.equals(other.registry)
+        && Objects.equals(predicate, other.predicate);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, registry, recursively, predicate);
+  }
+
 }
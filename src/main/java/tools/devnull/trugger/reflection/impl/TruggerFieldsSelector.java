@@ -16,10 +16,14 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
+import tools.devnull.trugger.Result;
 import tools.devnull.trugger.selector.FieldsSelector;
+import tools.devnull.trugger.util.ClassBatch;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -61,4 +65,15 @@ public class TruggerFieldsSelector implements FieldsSelector {
     return new MembersSelector<>(finder, predicate, recursively).in(target);
   }
 
+  @Override
+  public Result<List<Field>, Object> compile() {
+    return CompiledSelector.ofList(this);
+  }
+
+  @Override
+  public Map<Class<?>, List<Field>> inAll(
+      Collection<? extends Class<?>> types, int parallelism) {
+    return ClassBatch.apply(types, this::in, parallelism);
+  }
+
 }
@@ -16,16 +16,19 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
-import java.lang.ref.SoftReference;
+import tools.devnull.trugger.util.cache.ClassCache;
+
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
 
 /**
  * Helper class for resolving generic types against type variables.
@@ -39,9 +42,10 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 final class TruggerGenericTypeResolver {
 
-  //Changed to generic type
-  private static final SoftReference<Map<Class, Map<Type, Type>>> typeVariableCache =
-    new SoftReference<Map<Class, Map<Type, Type>>>(new ConcurrentHashMap<>(50));
+  //Changed to a bounded class cache
+  private static final ClassCache<Map<Type, Type>> typeVariableCache =
+    ClassCache.create("type variables", DEFAULT_MAXIMUM_SIZE,
+        TruggerGenericTypeResolver::computeTypeVariableMap);
 
   private TruggerGenericTypeResolver() {
   }
@@ -105,56 +109,48 @@ final class TruggerGenericTypeResolver {
     }
   }
 
-  private static Map<Class, Map<Type, Type>> cache() {
-    Map<Class, Map<Type, Type>> map = typeVariableCache.get();
-    if (map == null) {
-      map = new ConcurrentHashMap<>(100);
-    }
-    return map;
-  }
-
   /**
    * Build a mapping of {@link TypeVariable#getName TypeVariable names} to concrete {@link
    * Class} for the specified {@link Class}. Searches all super types, enclosing types and
    * interfaces.
+   *
+   * @return an immutable map, shared by every caller
    */
   static Map<Type, Type> getTypeVariableMap(Class clazz) {
-    Map<Type, Type> typeVariableMap = cache().get(clazz);
+    return typeVariableCache.get(clazz);
+  }
 
-    if (typeVariableMap == null) {
-      typeVariableMap = new HashMap<>();
+  private static Map<Type, Type> computeTypeVariableMap(Class clazz) {
+    Map<Type, Type> typeVariableMap = new HashMap<>();
 
-      // interfaces
-      extractTypeVariablesFromGenericInterfaces(clazz.getGenericInterfaces(), typeVariableMap);
+    // interfaces
+    extractTypeVariablesFromGenericInterfaces(clazz.getGenericInterfaces(), typeVariableMap);
 
-      // super class
-      Type genericType = clazz.getGenericSuperclass();
-      Class type = clazz.getSuperclass();
-      while ((type != null) && !Object.class.equals(type)) {
-        if (genericType instanceof ParameterizedType) {
-          ParameterizedType pt = (ParameterizedType) genericType;
-          populateTypeMapFromParameterizedType(pt, typeVariableMap);
-        }
-        extractTypeVariablesFromGenericInterfaces(type.getGenericInterfaces(), typeVariableMap);
-        genericType = type.getGenericSuperclass();
-        type = type.getSuperclass();
+    // super class
+    Type genericType = clazz.getGenericSuperclass();
+    Class type = clazz.getSuperclass();
+    while ((type != null) && !Object.class.equals(type)) {
+      if (genericType instanceof ParameterizedType) {
+        ParameterizedType pt = (ParameterizedType) genericType;
+        populateTypeMapFromParameterizedType(pt, typeVariableMap);
       }
+      extractTypeVariablesFromGenericInterfaces(type.getGenericInterfaces(), typeVariableMap);
+      genericType = type.getGenericSuperclass();
+      type = type.getSuperclass();
+    }
 
-      // enclosing class
-      type = clazz;
-      while (type.isMemberClass()) {
-        genericType = type.getGenericSuperclass();
-        if (genericType instanceof ParameterizedType) {
-          ParameterizedType pt = (ParameterizedType) genericType;
-          populateTypeMapFromParameterizedType(pt, typeVariableMap);
-        }
-        type = type.getEnclosingClass();
+    // enclosing class
+    type = clazz;
+    while (type.isMemberClass()) {
+      genericType = type.getGenericSuperclass();
+      if (genericType instanceof ParameterizedType) {
+        ParameterizedType pt = (ParameterizedType) genericType;
+        populateTypeMapFromParameterizedType(pt, typeVariableMap);
       }
-
-      cache().put(clazz, typeVariableMap);
+      type = type.getEnclosingClass();
     }
 
-    return typeVariableMap;
+    return Collections.unmodifiableMap(typeVariableMap);
   }
 
   /** Extracts the bound <code>Type for a given {@link TypeVariable}. */
@@ -16,11 +16,16 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
-import tools.devnull.trugger.reflection.ReflectionPredicates;
+import tools.devnull.trugger.Result;
 import tools.devnull.trugger.selector.MethodSelector;
+import tools.devnull.trugger.util.Utils;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * A default implementation for the method selector.
@@ -78,11 +83,78 @@ public class TruggerMethodSelector implements MethodSelector {
       return new MemberSelector<>(registry.methodFinder(name, parameterTypes),
           predicate, recursively).in(target);
     }
-    MembersSelector<Method> selector = new MembersSelector<>(
-        registry.methodsFinder(), predicate, recursively);
-    return selector.in(target).stream()
-        .filter(ReflectionPredicates.named(name))
-        .findAny().orElse(null);
+    MembersFinder<Method> finder = registry.methodsFinder(name);
+    if (recursively) {
+      finder = finder.hierarchy();
+    }
+    return select(finder.find(Utils.resolveType(target)));
+  }
+
+  @Override
+  public Result<Method, Object> compile() {
+    return CompiledSelector.of(this);
+  }
+
+  /**
+   * Returns every method that this selector may select in the given target,
+   * in the same order used by {@link #in(Object)}.
+   *
+   * @return the candidate methods or <code>null</code> if this selector
+   * specifies the parameter types.
+   * @since 5.2
+   */
+  List<Method> candidates(Object target) {
+    if (parameterTypes != null) {
+      return null;
+    }
+    MembersFinder<Method> finder = registry.methodsFinder(name);
+    if (recursively) {
+      finder = finder.hierarchy();
+    }
+    List<Method> methods = finder.find(Utils.resolveType(target));
+    if (predicate == null) {
+      return methods;
+    }
+    return methods.stream().filter(predicate).collect(Collectors.toList());
+  }
+
+  private Method select(List<Method> methods) {
+    for (Method method : methods) {
+      if (predicate == null || predicate.test(method)) {
+        return method;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if this selector has a predicate. Predicates
+   * are usually lambdas, so filtered selectors are only equal to themselves.
+   */
+  boolean isFiltered() {
+    return predicate != null;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    TruggerMethodSelector other = (TruggerMethodSelector) o;
+    return recursively == other.recursively
+        && name.equals(other.name)
+        && registry.equals(other.registry)
+        && Arrays.equals(parameterTypes, other.parameterTypes)
+        && Objects.equals(predicate, other.predicate);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, registry, Arrays.hashCode(parameterTypes),
+        recursively, predicate);
   }
 
 }
@@ -16,10 +16,14 @@
  */
 package tools.devnull.trugger.reflection.impl;
 
+import tools.devnull.trugger.Result;
 import tools.devnull.trugger.selector.MethodsSelector;
+import tools.devnull.trugger.util.ClassBatch;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -61,4 +65,16 @@ public class TruggerMethodsSelector implements MethodsSelector {
   public List<Method> in(Object target) {
     return new MembersSelector<>(finder, predicate, recursively).in(target);
   }
+
+  @Override
+  public Result<List<Method>, Object> compile() {
+    return CompiledSelector.ofList(this);
+  }
+
+  @Override
+  public Map<Class<?>, List<Method>> inAll(
+      Collection<? extends Class<?>> types, int parallelism) {
+    return ClassBatch.apply(types, this::in, parallelism);
+  }
+
 }
@@ -34,13 +34,28 @@ public class TruggerReflectionFactory implements ReflectionFactory {
     return new TruggerReflector();
   }
 
+  /**
+   * Creates an invoker backed by a {@link java.lang.invoke.MethodHandle}, if
+   * possible, or a reflective invoker otherwise.
+   */
   public MethodInvoker createInvoker(Method method) {
-    return method != null ? new TruggerMethodInvoker(method) : Null.NULL_METHOD_INVOKER;
+    if (method == null) {
+      return Null.NULL_METHOD_INVOKER;
+    }
+    MethodInvoker invoker = MethodHandleInvoker.of(method);
+    return invoker != null ? invoker : new TruggerMethodInvoker(method);
   }
 
+  /**
+   * Creates an invoker backed by a cached factory, if possible, or a
+   * reflective invoker otherwise.
+   */
   public ConstructorInvoker createInvoker(Constructor<?> constructor) {
-    return constructor != null ? new TruggerConstructorInvoker(constructor) :
-        Null.NULL_CONSTRUCTOR_INVOKER;
+    if (constructor == null) {
+      return Null.NULL_CONSTRUCTOR_INVOKER;
+    }
+    ConstructorInvoker invoker = ConstructorFactoryInvoker.of(constructor);
+    return invoker != null ? invoker : new TruggerConstructorInvoker(constructor);
   }
 
   public FieldHandler createHandler(Field field) {
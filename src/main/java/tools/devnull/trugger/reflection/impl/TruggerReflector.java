@@ -21,12 +21,15 @@ import tools.devnull.trugger.reflection.ReflectionException;
 import tools.devnull.trugger.reflection.Reflector;
 import tools.devnull.trugger.selector.*;
 import tools.devnull.trugger.util.Utils;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static tools.devnull.trugger.util.cache.ClassCache.DEFAULT_MAXIMUM_SIZE;
+
 /**
  * An implementation of the reflection operations.
  *
@@ -34,6 +37,37 @@ import java.util.stream.Collectors;
  */
 public class TruggerReflector implements Reflector {
 
+  private static final MemberFindersRegistry DECLARED =
+      new CachedMemberFindersRegistry(new DeclaredMemberFindersRegistry());
+
+  private static final MemberFindersRegistry VISIBLE =
+      new CachedMemberFindersRegistry(new VisibleMemberFindersRegistry());
+
+  private static final ClassCache<List<Class>> INTERFACES =
+      ClassCache.create("interfaces", DEFAULT_MAXIMUM_SIZE,
+          TruggerReflector::interfacesOf);
+
+  private static List<Class> interfacesOf(Class<?> type) {
+    Set<Class> set = new LinkedHashSet<>();
+    for (Class c = type;
+         (c != null) && !Object.class.equals(c);
+         c = c.getSuperclass()) {
+      for (Class interf : c.getInterfaces()) {
+        loop(interf, set);
+      }
+    }
+    return Collections.unmodifiableList(
+        Arrays.asList(set.toArray(new Class[set.size()])));
+  }
+
+  private static void loop(Class interf, Collection<Class> interfaces) {
+    if (interfaces.add(interf)) {
+      for (Class extendedInterface : interf.getInterfaces()) {
+        loop(extendedInterface, interfaces);
+      }
+    }
+  }
+
   private final MemberFindersRegistry registry;
 
   public TruggerReflector(MemberFindersRegistry defaultRegistry) {
@@ -41,17 +75,17 @@ public class TruggerReflector implements Reflector {
   }
 
   public TruggerReflector() {
-    this(new DeclaredMemberFindersRegistry());
+    this(DECLARED);
   }
 
   @Override
   public final Reflector visible() {
-    return new TruggerReflector(new VisibleMemberFindersRegistry());
+    return new TruggerReflector(VISIBLE);
   }
 
   @Override
   public final Reflector declared() {
-    return new TruggerReflector(new DeclaredMemberFindersRegistry());
+    return new TruggerReflector(DECLARED);
   }
 
   public ConstructorSelector constructor() {
@@ -79,28 +113,7 @@ public class TruggerReflector implements Reflector {
   }
 
   public Result<List<Class>, Object> interfaces() {
-    return new Result<List<Class>, Object>() {
-
-      private void loop(Class interf, Collection<Class> interfaces) {
-        interfaces.add(interf);
-        for (Class extendedInterfaces : interf.getInterfaces()) {
-          loop(extendedInterfaces, interfaces);
-        }
-      }
-
-      public List<Class> in(Object target) {
-        Class<?> objectClass = Utils.resolveType(target);
-        Set<Class> set = new HashSet<>(30);
-        for (Class c = objectClass;
-             (c != null) && !Object.class.equals(c);
-             c = c.getSuperclass()) {
-          for (Class interf : c.getInterfaces()) {
-            loop(interf, set);
-          }
-        }
-        return new ArrayList<>(set);
-      }
-    };
+    return target -> INTERFACES.get(Utils.resolveType(target));
   }
 
   public Result<Class, Object> genericType(final String parameterName) {
@@ -129,7 +142,7 @@ public class TruggerReflector implements Reflector {
   }
 
   public Method bridgedMethodFor(Method bridgeMethod) {
-    return new TruggerBridgeMethodResolver(bridgeMethod).findBridgedMethod();
+    return TruggerBridgeMethodResolver.resolve(bridgeMethod);
   }
 
 }
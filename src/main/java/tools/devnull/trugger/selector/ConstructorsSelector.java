@@ -19,7 +19,10 @@ package tools.devnull.trugger.selector;
 import tools.devnull.trugger.Result;
 
 import java.lang.reflect.Constructor;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -32,4 +35,44 @@ public interface ConstructorsSelector extends PredicateSelector<Constructor<?>>,
 
   ConstructorsSelector filter(Predicate<? super Constructor<?>> predicate);
 
+  /**
+   * Selects the constructors of each given class using the available
+   * processors.
+   *
+   * @param types the classes to select the constructors
+   * @return a map of each class to its selected constructors.
+   * @since 5.2
+   * @see #inAll(Collection, int)
+   */
+  default Map<Class<?>, List<Constructor<?>>> inAll(
+      Collection<? extends Class<?>> types) {
+    return inAll(types, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Selects the constructors of each given class in parallel, splitting the
+   * classes in at most <code>parallelism</code> ranges processed by a
+   * {@link java.util.concurrent.ForkJoinPool}. Unless called from a worker of
+   * another pool, the ranges run in a pool shared by every selection, which
+   * has as many threads as the available processors, so a higher parallelism
+   * only makes the ranges smaller.
+   * <p>
+   * The default implementation selects the constructors of each class
+   * sequentially.
+   *
+   * @param types       the classes to select the constructors
+   * @param parallelism the maximum number of ranges the classes are split
+   *                    in
+   * @return a map of each class to its selected constructors.
+   * @since 5.2
+   */
+  default Map<Class<?>, List<Constructor<?>>> inAll(
+      Collection<? extends Class<?>> types, int parallelism) {
+    Map<Class<?>, List<Constructor<?>>> result = new HashMap<>();
+    for (Class<?> type : types) {
+      result.put(type, in(type));
+    }
+    return result;
+  }
+
 }
@@ -32,4 +32,20 @@ public interface ElementsSelector extends PredicateSelector<Element>,
 
   ElementsSelector filter(Predicate<? super Element> predicate);
 
+  /**
+   * Selects the elements without binding them to the target. The values of
+   * the selected elements are handled through
+   * {@link Element#valueIn(Object)} and {@link Element#setIn(Object, Object)},
+   * which avoids creating a specific element for each one.
+   * <p>
+   * The default implementation returns this selector, since bound elements
+   * can also be handled through these methods.
+   *
+   * @return a new selector that doesn't bind the elements to the target
+   * @since 5.2
+   */
+  default ElementsSelector unbound() {
+    return this;
+  }
+
 }
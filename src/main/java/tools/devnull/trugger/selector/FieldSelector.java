@@ -34,4 +34,19 @@ public interface FieldSelector extends PredicateSelector<Field>,
 
   FieldSelector deep();
 
+  /**
+   * Compiles this selector into a thread-safe lookup that remembers the selected field
+   * for each class, so it can be declared once (in a static field, for
+   * example) and reused.
+   * <p>
+   * The default implementation does not remember anything and simply
+   * delegates to {@link #in(Object)}.
+   *
+   * @return the compiled selector.
+   * @since 5.2
+   */
+  default Result<Field, Object> compile() {
+    return target -> in(target);
+  }
+
 }
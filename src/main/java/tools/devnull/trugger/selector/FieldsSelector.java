@@ -19,7 +19,10 @@ package tools.devnull.trugger.selector;
 import tools.devnull.trugger.Result;
 
 import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -34,4 +37,58 @@ public interface FieldsSelector extends PredicateSelector<Field>,
 
   FieldsSelector deep();
 
+  /**
+   * Compiles this selector into a thread-safe lookup that remembers the selected fields
+   * for each class, so it can be declared once (in a static field, for
+   * example) and reused. The returned lists are immutable.
+   * <p>
+   * The default implementation does not remember anything and simply
+   * delegates to {@link #in(Object)}.
+   *
+   * @return the compiled selector.
+   * @since 5.2
+   */
+  default Result<List<Field>, Object> compile() {
+    return target -> in(target);
+  }
+
+  /**
+   * Selects the fields of each given class using the available processors.
+   *
+   * @param types the classes to select the fields
+   * @return a map of each class to its selected fields.
+   * @since 5.2
+   * @see #inAll(Collection, int)
+   */
+  default Map<Class<?>, List<Field>> inAll(
+      Collection<? extends Class<?>> types) {
+    return inAll(types, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Selects the fields of each given class in parallel, splitting the
+   * classes in at most <code>parallelism</code> ranges processed by a
+   * {@link java.util.concurrent.ForkJoinPool}. Unless called from a worker of
+   * another pool, the ranges run in a pool shared by every selection, which
+   * has as many threads as the available processors, so a higher parallelism
+   * only makes the ranges smaller.
+   * <p>
+   * The default implementation selects the fields of each class
+   * sequentially.
+   *
+   * @param types       the classes to select the fields
+   * @param parallelism the maximum number of ranges the classes are split
+   *                    in
+   * @return a map of each class to its selected fields.
+   * @since 5.2
+   */
+  default Map<Class<?>, List<Field>> inAll(
+      Collection<? extends Class<?>> types, int parallelism) {
+    Map<Class<?>, List<Field>> result = new HashMap<>();
+    for (Class<?> type : types) {
+      result.put(type, in(type));
+    }
+    return result;
+  }
+
 }
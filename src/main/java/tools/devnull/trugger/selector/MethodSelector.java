@@ -45,4 +45,19 @@ public interface MethodSelector extends PredicateSelector<Method>,
    */
   Method in(Object target);
 
+  /**
+   * Compiles this selector into a thread-safe lookup that remembers the selected method
+   * for each class, so it can be declared once (in a static field, for
+   * example) and reused.
+   * <p>
+   * The default implementation does not remember anything and simply
+   * delegates to {@link #in(Object)}.
+   *
+   * @return the compiled selector.
+   * @since 5.2
+   */
+  default Result<Method, Object> compile() {
+    return target -> in(target);
+  }
+
 }
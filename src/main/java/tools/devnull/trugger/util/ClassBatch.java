@@ -0,0 +1,174 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.util;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Applies a function to a batch of classes using a {@link ForkJoinPool}.
+ * <p>
+ * The classes are split in ranges and each task stores its results directly
+ * in the resulting map. The tasks run in a pool shared by every batch (created
+ * on the first parallel batch and bounded by the available processors) or, if
+ * the caller is already a worker of a pool, in the caller's pool.
+ *
+ * @since 5.2
+ */
+public final class ClassBatch {
+
+  private static final int THRESHOLD = 16;
+
+  private ClassBatch() {
+  }
+
+  /**
+   * Applies the function to each of the given classes.
+   *
+   * @param types       the classes
+   * @param function    the function to apply, which must not return
+   *                    <code>null</code>
+   * @param parallelism the maximum number of ranges the classes are split
+   *                    in. The ranges run in the shared pool, so at most as
+   *                    many ranges as the available processors run at the
+   *                    same time
+   * @return a map of each class to its result
+   * @throws IllegalArgumentException if the parallelism is less than 1
+   */
+  public static <R> Map<Class<?>, R> apply(Collection<? extends Class<?>> types,
+                                           Function<Class<?>, ? extends R> function,
+                                           int parallelism) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          "Invalid parallelism: " + parallelism);
+    }
+    Class<?>[] array = types.toArray(new Class<?>[types.size()]);
+    if (parallelism == 1 || array.length <= THRESHOLD) {
+      Map<Class<?>, R> result = new HashMap<>(capacityFor(array.length));
+      for (Class<?> type : array) {
+        result.put(type, function.apply(type));
+      }
+      return result;
+    }
+    Map<Class<?>, R> result =
+        new ConcurrentHashMap<>(capacityFor(array.length), 0.75f, parallelism);
+    // the ranges are never smaller than the threshold and there are at most
+    // as many ranges as the given parallelism
+    int rangeSize = Math.max(THRESHOLD,
+        (array.length + parallelism - 1) / parallelism);
+    Task<R> task = new Task<>(function, array, result, rangeSize,
+        0, array.length);
+    if (ForkJoinTask.inForkJoinPool()) {
+      task.invoke();
+    } else {
+      SharedPool.INSTANCE.invoke(task);
+    }
+    return result;
+  }
+
+  /**
+   * Runs the action for each of the given classes, using the available
+   * processors, and measures the time spent on each class.
+   *
+   * @param types  the classes
+   * @param action the action to run
+   * @return a map of each class to the time spent on it
+   */
+  public static Map<Class<?>, Duration> time(Collection<? extends Class<?>> types,
+                                             Consumer<Class<?>> action) {
+    return apply(types, type -> {
+      long start = System.nanoTime();
+      action.accept(type);
+      return Duration.ofNanos(System.nanoTime() - start);
+    }, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Checks if the given classes fit in caches bounded by the given size.
+   *
+   * @param types       the classes
+   * @param maximumSize the maximum number of classes in the caches
+   * @throws IllegalArgumentException if there are more classes than the
+   *                                  given size
+   */
+  public static void checkSize(Collection<? extends Class<?>> types,
+                               int maximumSize) {
+    if (types.size() > maximumSize) {
+      throw new IllegalArgumentException("Cannot keep " + types.size() +
+          " classes in caches bounded to " + maximumSize + " classes");
+    }
+  }
+
+  private static int capacityFor(int size) {
+    return (int) (size / 0.75f) + 1;
+  }
+
+  // the pool is only created when a batch needs it
+  private static class SharedPool {
+
+    private static final ForkJoinPool INSTANCE =
+        new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+  }
+
+  private static class Task<R> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Function<Class<?>, ? extends R> function;
+    private final Class<?>[] types;
+    private final Map<Class<?>, R> result;
+    private final int rangeSize;
+    private final int from;
+    private final int to;
+
+    private Task(Function<Class<?>, ? extends R> function, Class<?>[] types,
+                 Map<Class<?>, R> result, int rangeSize, int from, int to) {
+      this.function = function;
+      this.types = types;
+      this.result = result;
+      this.rangeSize = rangeSize;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= rangeSize) {
+        for (int i = from; i < to; i++) {
+          result.put(types[i], function.apply(types[i]));
+        }
+      } else {
+        int ranges = (to - from + rangeSize - 1) / rangeSize;
+        int middle = from + (ranges >>> 1) * rangeSize;
+        invokeAll(new Task<>(function, types, result, rangeSize, from, middle),
+            new Task<>(function, types, result, rangeSize, middle, to));
+      }
+    }
+
+  }
+
+}
@@ -90,19 +90,24 @@ public final class Null {
 
   };
 
-  public static final ValueHandler NULL_VALUE_HANDLER = new ValueHandler() {
+  public static final ValueHandler NULL_VALUE_HANDLER = new NullValueHandler();
+
+  public static final FieldHandler NULL_FIELD_HANDLER = new NullFieldHandler();
+
+  public static final ConstructorInvoker NULL_CONSTRUCTOR_INVOKER = new ConstructorInvoker() {
     @Override
-    public <E> E value() throws HandlingException {
+    public <E> E withArgs(Object... args) {
       return null;
     }
 
     @Override
-    public void set(Object value) throws HandlingException {
-
+    public <E> E withoutArgs() {
+      return null;
     }
+
   };
 
-  public static final FieldHandler NULL_FIELD_HANDLER = new FieldHandler() {
+  private static class NullValueHandler implements ValueHandler {
 
     @Override
     public <E> E value() throws HandlingException {
@@ -114,23 +119,87 @@ public final class Null {
     }
 
     @Override
-    public ValueHandler in(Object source) {
-      return NULL_VALUE_HANDLER;
+    public boolean booleanValue() throws HandlingException {
+      return false;
     }
 
-  };
+    @Override
+    public byte byteValue() throws HandlingException {
+      return 0;
+    }
 
-  public static final ConstructorInvoker NULL_CONSTRUCTOR_INVOKER = new ConstructorInvoker() {
     @Override
-    public <E> E withArgs(Object... args) {
-      return null;
+    public short shortValue() throws HandlingException {
+      return 0;
     }
 
     @Override
-    public <E> E withoutArgs() {
-      return null;
+    public char charValue() throws HandlingException {
+      return 0;
     }
 
-  };
+    @Override
+    public int intValue() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public long longValue() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public float floatValue() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public double doubleValue() throws HandlingException {
+      return 0;
+    }
+
+    @Override
+    public void setBoolean(boolean value) throws HandlingException {
+    }
+
+    @Override
+    public void setByte(byte value) throws HandlingException {
+    }
+
+    @Override
+    public void setShort(short value) throws HandlingException {
+    }
+
+    @Override
+    public void setChar(char value) throws HandlingException {
+    }
+
+    @Override
+    public void setInt(int value) throws HandlingException {
+    }
+
+    @Override
+    public void setLong(long value) throws HandlingException {
+    }
+
+    @Override
+    public void setFloat(float value) throws HandlingException {
+    }
+
+    @Override
+    public void setDouble(double value) throws HandlingException {
+    }
+
+  }
+
+  private static class NullFieldHandler extends NullValueHandler
+      implements FieldHandler {
+
+    @Override
+    public ValueHandler in(Object source) {
+      return NULL_VALUE_HANDLER;
+    }
+
+  }
 
 }
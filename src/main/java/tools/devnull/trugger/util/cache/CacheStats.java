@@ -0,0 +1,80 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.util.cache;
+
+/**
+ * An immutable snapshot of the statistics of a {@link ClassCache}.
+ *
+ * @since 5.2
+ */
+public final class CacheStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  CacheStats(long hitCount, long missCount, long evictionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * @return the number of requests answered with a cached value
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of requests that required a value to be computed
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the number of requests made to the cache
+   */
+  public long requestCount() {
+    return hitCount + missCount;
+  }
+
+  /**
+   * @return the ratio of requests answered with a cached value, or
+   * <code>1.0</code> if no request was made
+   */
+  public double hitRate() {
+    long requestCount = requestCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  /**
+   * @return the number of values removed because the cache was full
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  @Override
+  public String toString() {
+    return "[hits=" + hitCount + ", misses=" + missCount +
+        ", evictions=" + evictionCount + "]";
+  }
+
+}
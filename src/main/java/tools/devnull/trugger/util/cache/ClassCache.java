@@ -0,0 +1,339 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.util.cache;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of values computed for classes.
+ * <p>
+ * The values are attached to the classes through a {@link ClassValue}, so
+ * the cache never prevents a class (or its class loader) from being unloaded.
+ * When the cache grows beyond its maximum size, the oldest entries are
+ * evicted and will be computed again on the next request.
+ * <p>
+ * The value of a class is computed by only one thread: concurrent requests
+ * for a class being loaded wait for the loader and share its result (or its
+ * exception). A value is computed again only after being invalidated or
+ * evicted, or if its loader failed.
+ * <p>
+ * Every cache created through {@link #create(String, int, Function)} is
+ * registered and can be inspected through {@link #caches()} while it is
+ * reachable.
+ *
+ * @param <V> the type of the cached values
+ * @since 5.2
+ */
+public final class ClassCache<V> {
+
+  /**
+   * The system property that sets the {@link #DEFAULT_MAXIMUM_SIZE}.
+   */
+  public static final String MAXIMUM_SIZE_PROPERTY =
+      "trugger.cache.maximumSize";
+
+  /**
+   * The maximum number of classes in each cache of trugger, read from the
+   * system property {@value #MAXIMUM_SIZE_PROPERTY} when this class is
+   * loaded (defaults to 1000).
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE =
+      Integer.getInteger(MAXIMUM_SIZE_PROPERTY, 1000);
+
+  private static final List<WeakReference<ClassCache<?>>> caches =
+      new CopyOnWriteArrayList<>();
+
+  private final String name;
+  private final int maximumSize;
+  private final ClassValue<V> values;
+  // the load and the eviction entry of each class, attached to the class
+  // like the values so they don't prevent it from being unloaded
+  private final ClassValue<Slot<V>> slots = new ClassValue<Slot<V>>() {
+    @Override
+    protected Slot<V> computeValue(Class<?> type) {
+      return new Slot<>();
+    }
+  };
+
+  private final Queue<WeakReference<Class<?>>> entries =
+      new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private ClassCache(String name, int maximumSize,
+                     Function<Class<?>, ? extends V> loader) {
+    if (maximumSize < 1) {
+      throw new IllegalArgumentException("Invalid maximum size: " + maximumSize);
+    }
+    this.name = name;
+    this.maximumSize = maximumSize;
+    this.values = new ClassValue<V>() {
+      @Override
+      protected V computeValue(Class<?> type) {
+        return load(type, loader);
+      }
+    };
+  }
+
+  private V load(Class<?> type, Function<Class<?>, ? extends V> loader) {
+    Slot<V> slot = slots.get(type);
+    Load<V> load;
+    boolean owner;
+    synchronized (slot) {
+      owner = slot.load == null;
+      if (owner) {
+        slot.load = new Load<>();
+      }
+      load = slot.load;
+    }
+    if (!owner) {
+      // the value is being computed or was computed but not yet seen by
+      // this thread
+      return load.await();
+    }
+    try {
+      misses.increment();
+      V value = loader.apply(type);
+      synchronized (slot) {
+        // the load is kept until the value is invalidated or evicted, so
+        // late requests share it instead of computing it again
+        if (slot.load == load) {
+          slot.entry = new WeakReference<>(type);
+          entries.add(slot.entry);
+          size.incrementAndGet();
+        }
+      }
+      load.complete(value);
+      return value;
+    } catch (RuntimeException | Error e) {
+      synchronized (slot) {
+        if (slot.load == load) {
+          slot.load = null;
+        }
+      }
+      load.fail(e);
+      throw e;
+    }
+  }
+
+  /**
+   * Creates and registers a new cache.
+   *
+   * @param name        the name of the cache, used for identifying it in the
+   *                    {@link #caches() registered caches}
+   * @param maximumSize the maximum number of classes in the cache
+   * @param loader      the function that computes the value for a class. It
+   *                    may be called more than once for the same class if
+   *                    the value is evicted.
+   * @return the created cache
+   */
+  public static <V> ClassCache<V> create(String name, int maximumSize,
+                                         Function<Class<?>, ? extends V> loader) {
+    ClassCache<V> cache = new ClassCache<>(name, maximumSize, loader);
+    caches.removeIf(reference -> reference.get() == null);
+    caches.add(new WeakReference<>(cache));
+    return cache;
+  }
+
+  /**
+   * @return an immutable list of the created caches that are still in use
+   */
+  public static List<ClassCache<?>> caches() {
+    List<ClassCache<?>> result = new ArrayList<>(caches.size());
+    for (WeakReference<ClassCache<?>> reference : caches) {
+      ClassCache<?> cache = reference.get();
+      if (cache != null) {
+        result.add(cache);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  /**
+   * Returns the value for the given class, computing it if needed.
+   *
+   * @param type the class
+   * @return the value associated with the class
+   */
+  public V get(Class<?> type) {
+    requests.increment();
+    V value = values.get(type);
+    if (size.get() > maximumSize) {
+      evict();
+    }
+    return value;
+  }
+
+  /**
+   * Removes the value associated with the given class.
+   *
+   * @param type the class
+   */
+  public void invalidate(Class<?> type) {
+    Slot<V> slot = slots.get(type);
+    WeakReference<Class<?>> entry;
+    synchronized (slot) {
+      entry = slot.entry;
+      slot.entry = null;
+      slot.load = null;
+    }
+    values.remove(type);
+    if (entry != null && entries.remove(entry)) {
+      size.decrementAndGet();
+    }
+  }
+
+  /**
+   * Removes all the values of this cache.
+   */
+  public void clear() {
+    List<WeakReference<Class<?>>> references = new ArrayList<>(entries);
+    for (WeakReference<Class<?>> reference : references) {
+      if (entries.remove(reference)) {
+        size.decrementAndGet();
+        release(reference);
+      }
+    }
+  }
+
+  private void evict() {
+    while (size.get() > maximumSize) {
+      WeakReference<Class<?>> reference = entries.poll();
+      if (reference == null) {
+        return;
+      }
+      size.decrementAndGet();
+      if (release(reference)) {
+        evictions.increment();
+      }
+    }
+  }
+
+  // removes the value of the class of an entry taken from the queue
+  private boolean release(WeakReference<Class<?>> entry) {
+    Class<?> type = entry.get();
+    if (type == null) {
+      return false;
+    }
+    Slot<V> slot = slots.get(type);
+    synchronized (slot) {
+      if (slot.entry != entry) {
+        return false;
+      }
+      slot.entry = null;
+      slot.load = null;
+    }
+    values.remove(type);
+    return true;
+  }
+
+  /**
+   * @return the name of this cache
+   */
+  public String name() {
+    return name;
+  }
+
+  /**
+   * @return the maximum number of classes in this cache
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * @return the approximate number of classes in this cache
+   */
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * @return a snapshot of the statistics of this cache
+   */
+  public CacheStats stats() {
+    long requestCount = requests.sum();
+    long missCount = misses.sum();
+    return new CacheStats(Math.max(0, requestCount - missCount), missCount,
+        evictions.sum());
+  }
+
+  @Override
+  public String toString() {
+    return name + " " + stats();
+  }
+
+  // the bookkeeping of a class, guarded by its own lock
+  private static class Slot<V> {
+
+    private Load<V> load;
+    private WeakReference<Class<?>> entry;
+
+  }
+
+  // a value computed (or being computed) by a thread
+  private static class Load<V> {
+
+    private volatile Thread owner = Thread.currentThread();
+    private final CompletableFuture<V> result = new CompletableFuture<>();
+
+    private void complete(V value) {
+      result.complete(value);
+      owner = null;
+    }
+
+    private void fail(Throwable error) {
+      result.completeExceptionally(error);
+      owner = null;
+    }
+
+    private V await() {
+      if (!result.isDone() && owner == Thread.currentThread()) {
+        throw new IllegalStateException("Recursive load of the same class");
+      }
+      try {
+        return result.join();
+      } catch (CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw e;
+      }
+    }
+
+  }
+
+}
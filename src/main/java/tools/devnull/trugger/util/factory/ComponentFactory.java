@@ -19,6 +19,7 @@ package tools.devnull.trugger.util.factory;
 
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.element.Elements;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.AnnotatedElement;
@@ -129,9 +130,9 @@ public class ComponentFactory<T extends Annotation, E> {
    * annotated with the required annotation.
    */
   public E create(Annotation annotation) {
-    Class<?> type = annotation.annotationType();
-    if (type.isAnnotationPresent(annotationType)) {
-      T classAnnotation = type.getAnnotation(annotationType);
+    T classAnnotation = AnnotationIndex.of(annotation.annotationType())
+        .get(annotationType);
+    if (classAnnotation != null) {
       Element element = Elements.element(classElement).in(classAnnotation);
       Class<? extends E> typeToCreate = element.value();
       return create(annotation, typeToCreate);
@@ -150,7 +151,8 @@ public class ComponentFactory<T extends Annotation, E> {
    */
   public E create(AnnotatedElement element) {
     E component;
-    for (Annotation annotation : element.getAnnotations()) {
+    for (Annotation annotation :
+        AnnotationIndex.of(element).annotatedWith(annotationType)) {
       component = create(annotation);
       if (component != null) {
         return component;
@@ -170,7 +172,8 @@ public class ComponentFactory<T extends Annotation, E> {
   public List<E> createAll(AnnotatedElement element) {
     List result = new ArrayList<>();
     E component;
-    for (Annotation annotation : element.getAnnotations()) {
+    for (Annotation annotation :
+        AnnotationIndex.of(element).annotatedWith(annotationType)) {
       component = create(annotation);
       if (component != null) {
         result.add(component);
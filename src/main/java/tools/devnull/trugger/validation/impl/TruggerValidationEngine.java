@@ -19,6 +19,7 @@ package tools.devnull.trugger.validation.impl;
 
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.element.Elements;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 import tools.devnull.trugger.validation.*;
 
 import java.lang.annotation.Annotation;
@@ -89,7 +90,7 @@ public class TruggerValidationEngine implements ValidationEngine {
       boolean valueProcessed = false;
       for (Annotation annotation : element.getAnnotations()) {
         Class<? extends Annotation> type = annotation.annotationType();
-        if (type.isAnnotationPresent(MergeElements.class)) {
+        if (AnnotationIndex.of(type).isPresent(MergeElements.class)) {
           engine = new MergeValidationEngine(
               this, result.invalidElements, element, filter, target
           );
@@ -22,6 +22,7 @@ import tools.devnull.trugger.element.ElementPredicates;
 import tools.devnull.trugger.element.Elements;
 import tools.devnull.trugger.interception.Interception;
 import tools.devnull.trugger.interception.ValidationInterceptionHandler;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 import tools.devnull.trugger.util.factory.ComponentFactory;
 import tools.devnull.trugger.validation.*;
 
@@ -42,7 +43,10 @@ import static tools.devnull.trugger.reflection.Reflection.invoke;
  */
 public class TruggerValidatorFactory implements ValidatorFactory {
 
-  private final Map<Class<? extends Annotation>, Validator> shared;
+  // kept by this factory (and never evicted), since the validators
+  // reference the factory and would keep a value attached to the annotation
+  // types reachable
+  private final Map<Class<? extends Annotation>, Validator<?>> shared;
 
   public TruggerValidatorFactory() {
     shared = new ConcurrentHashMap<>();
@@ -61,8 +65,8 @@ public class TruggerValidatorFactory implements ValidatorFactory {
                 .onCall(new ValidationInterceptionHandler(this)
                     .onInvalid(context -> true))
                 .proxy();
-            if (validator.getClass().isAnnotationPresent(Shared.class)) {
-              shared.put(annotation.annotationType(), proxy);
+            if (AnnotationIndex.of(validator.getClass()).isPresent(Shared.class)) {
+              shared.putIfAbsent(annotation.annotationType(), proxy);
             }
             return proxy;
           }
@@ -78,9 +82,9 @@ public class TruggerValidatorFactory implements ValidatorFactory {
 
   @Override
   public Validator create(Annotation annotation) {
-    Class<? extends Annotation> type = annotation.annotationType();
-    if (shared.containsKey(type)) {
-      return shared.get(type);
+    Validator<?> validator = shared.get(annotation.annotationType());
+    if (validator != null) {
+      return validator;
     }
     return createFactory(annotation).create(annotation);
   }
@@ -88,9 +92,9 @@ public class TruggerValidatorFactory implements ValidatorFactory {
   @Override
   public Validator create(Annotation annotation, Element element,
                           Object target, ValidationEngine engine) {
-    Class<? extends Annotation> type = annotation.annotationType();
-    if (shared.containsKey(type)) {
-      return shared.get(type);
+    Validator<?> validator = shared.get(annotation.annotationType());
+    if (validator != null) {
+      return validator;
     }
     ComponentFactory<ValidatorClass, Validator> factory =
         createFactory(annotation);
@@ -18,6 +18,7 @@
 package tools.devnull.trugger.validation.validator;
 
 import tools.devnull.trugger.element.Element;
+import tools.devnull.trugger.reflection.AnnotationIndex;
 import tools.devnull.trugger.validation.TargetObject;
 import tools.devnull.trugger.validation.ValidationEngine;
 import tools.devnull.trugger.validation.Validator;
@@ -67,7 +68,8 @@ public class DomainValidator implements Validator {
   @Override
   public boolean isValid(Object value) {
     Validator validator;
-    for (Annotation a : annotation.annotationType().getDeclaredAnnotations()) {
+    for (Annotation a :
+        AnnotationIndex.of(annotation.annotationType()).annotations()) {
       validator = factory.create(a, element, target, engine);
       if (validator != null && !validator.isValid(value)) {
         return false;
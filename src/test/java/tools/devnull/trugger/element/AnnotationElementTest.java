@@ -19,12 +19,17 @@ package tools.devnull.trugger.element;
 import org.junit.Test;
 import tools.devnull.kodo.TestScenario;
 import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.validation.ValidatorClass;
+import tools.devnull.trugger.validation.validator.NotNullValidator;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
 
 import static tools.devnull.kodo.Spec.*;
-import static org.mockito.Mockito.when;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
 import static tools.devnull.trugger.AnnotationMock.mockAnnotation;
 import static tools.devnull.trugger.element.ElementPredicates.*;
 import static tools.devnull.trugger.element.Elements.element;
@@ -119,4 +124,46 @@ public class AnnotationElementTest implements ElementSpecs {
         .then(attempToGetValue(), should(raise(HandlingException.class)));
   }
 
+  @Test
+  public void testAttributeSnapshot() {
+    TestAnnotation annotation = (TestAnnotation) annotation();
+    for (int i = 0; i < 3; i++) {
+      assertEquals("some name", element("name").in(annotation).value());
+      assertEquals(1, (int) element("number").in(annotation).value());
+    }
+    verify(annotation, times(1)).name();
+    verify(annotation, times(1)).number();
+
+    Target target = ValidatorClass.class.getAnnotation(Target.class);
+    ElementType[] value = element("value").in(target).value();
+    assertArrayEquals(target.value(), value);
+    value[0] = null;
+    assertArrayEquals(target.value(),
+        (ElementType[]) element("value").in(target).value());
+  }
+
+  @Test
+  public void testClassAttributesAreNotKept() {
+    ValidatorClass annotation = mockAnnotation(ValidatorClass.class);
+    doReturn(NotNullValidator.class).when(annotation).value();
+    for (int i = 0; i < 3; i++) {
+      assertEquals(NotNullValidator.class,
+          element("value").in(annotation).value());
+    }
+    verify(annotation, times(3)).value();
+  }
+
+  @Test
+  public void testAlternatingSnapshots() {
+    TestAnnotation first = (TestAnnotation) annotation();
+    TestAnnotation second = (TestAnnotation) annotation();
+    when(second.name()).thenReturn("other name");
+    for (int i = 0; i < 3; i++) {
+      assertEquals("some name", element("name").in(first).value());
+      assertEquals("other name", element("name").in(second).value());
+    }
+    verify(first, times(1)).name();
+    verify(second, times(1)).name();
+  }
+
 }
@@ -209,4 +209,35 @@ public class ElementCopyTest {
     return true;
   }
 
+  static class PlainObject {
+
+    private String name;
+    private int age;
+    private double weight;
+
+  }
+
+  @Test
+  public void testCopyPlainFields() {
+    PlainObject src = new PlainObject();
+    src.age = 30;
+    src.weight = 72.5;
+    PlainObject dest = new PlainObject();
+    dest.name = "John";
+
+    copy().from(src).notNull().to(dest);
+    assertEquals("John", dest.name);
+    assertEquals(30, dest.age);
+    assertEquals(72.5, dest.weight, 0);
+
+    copy().from(src).to(dest);
+    assertEquals(null, dest.name);
+
+    src.name = "Paul";
+    src.age = 10;
+    copy().from(src).filter(copy -> !copy.dest().name().equals("age")).to(dest);
+    assertEquals("Paul", dest.name);
+    assertEquals(30, dest.age);
+  }
+
 }
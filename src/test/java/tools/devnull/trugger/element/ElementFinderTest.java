@@ -23,10 +23,15 @@ import tools.devnull.trugger.Finder;
 import tools.devnull.trugger.Result;
 import tools.devnull.trugger.reflection.ClassPredicates;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static tools.devnull.kodo.Spec.*;
 import static tools.devnull.trugger.element.Elements.element;
 import static tools.devnull.trugger.element.Elements.elements;
@@ -69,4 +74,12 @@ public class ElementFinderTest {
         .the(elements().in(TestFinder.class), should(be(EMPTY)));
   }
 
+  @Test
+  public void testWarmUp() {
+    Map<Class<?>, Duration> timings = Elements.warmUp(
+        Arrays.asList(TestObject.class, OtherTestObject.class));
+    assertEquals(2, timings.size());
+    assertTrue(timings.containsKey(TestObject.class));
+  }
+
 }
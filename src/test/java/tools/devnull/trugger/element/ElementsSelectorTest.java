@@ -23,8 +23,12 @@ import tools.devnull.trugger.Flag;
 import tools.devnull.trugger.element.impl.TruggerElementsSelector;
 import tools.devnull.trugger.selector.ElementsSelector;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
+import static org.junit.Assert.*;
 import static tools.devnull.kodo.Spec.*;
 import static tools.devnull.trugger.TruggerTest.element;
 import static tools.devnull.trugger.TruggerTest.elementFinder;
@@ -120,4 +124,58 @@ public class ElementsSelectorTest implements ElementSpecs {
         "elementA", "elementC");
   }
 
+  @Test
+  public void testUnboundSelection() {
+    TestObject first = new TestObject("John", "Smith");
+    TestObject second = new TestObject("Jane", "Doe");
+    List<Element> elements = Elements.elements().unbound().in(first);
+    assertSame(Elements.elements().in(TestObject.class), elements);
+
+    Map<String, Element> byName = new HashMap<>();
+    for (Element element : elements) {
+      assertFalse(element.isSpecific());
+      byName.put(element.name(), element);
+    }
+    assertEquals("John", byName.get("name").valueIn(first));
+    assertEquals("Jane", byName.get("name").valueIn(second));
+    byName.get("age").setIn(second, 30);
+    assertEquals(30, second.getAge());
+    assertEquals(0, first.getAge());
+
+    Element nested = Elements.element("name.length").in(TestObject.class);
+    assertEquals(4, (int) nested.valueIn(second));
+
+    Map<String, Object> map = new HashMap<>();
+    map.put("key", "value");
+    List<Element> mapElements = Elements.elements().unbound().in(map);
+    assertEquals(1, mapElements.size());
+    assertFalse(mapElements.get(0).isSpecific());
+    Map<String, Object> other = new HashMap<>();
+    mapElements.get(0).setIn(other, "other");
+    assertEquals("other", other.get("key"));
+  }
+
+  @Test
+  public void testDefaultUnboundSelection() {
+    ElementsSelector selector = new ElementsSelector() {
+      @Override
+      public ElementsSelector filter(Predicate<? super Element> predicate) {
+        return this;
+      }
+
+      @Override
+      public List<Element> in(Object target) {
+        return Elements.elements().in(target);
+      }
+    };
+    assertSame(selector, selector.unbound());
+    TestObject object = new TestObject("John", "Smith");
+    TestObject other = new TestObject("Jane", "Doe");
+    for (Element element : selector.unbound().in(object)) {
+      if (element.name().equals("name")) {
+        assertEquals("Jane", element.valueIn(other));
+      }
+    }
+  }
+
 }
@@ -20,9 +20,14 @@ package tools.devnull.trugger.element;
 import org.junit.Test;
 import tools.devnull.kodo.TestScenario;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Date;
 import java.util.Properties;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static tools.devnull.kodo.Spec.*;
 import static tools.devnull.trugger.element.ElementPredicates.*;
 import static tools.devnull.trugger.element.Elements.element;
@@ -57,6 +62,25 @@ public class NestedElementsTest implements ElementSpecs {
     private Properties properties;
   }
 
+  class VipCustomer extends Customer {
+    private String level;
+  }
+
+  class Order {
+    private Customer customer;
+    private Object owner;
+  }
+
+  public class CountingOrder {
+    private Customer customer;
+    private int reads;
+
+    public Customer getCustomer() {
+      reads++;
+      return customer;
+    }
+  }
+
   @Test
   public void testNestedElementCreating() {
     TestScenario.given(element("customer.phone").in(Ticket.class))
@@ -97,4 +121,127 @@ public class NestedElementsTest implements ElementSpecs {
         .the(value(), should(be("Address line")));
   }
 
+  @Test
+  public void testCompiledPaths() {
+    Order order = new Order();
+    order.customer = new VipCustomer();
+    order.customer.phone = "1234";
+    Order other = new Order();
+    other.customer = new Customer();
+    other.customer.phone = "5678";
+
+    Element phone = element("customer.phone").in(Order.class);
+    assertEquals("1234", phone.valueIn(order));
+    assertEquals("5678", phone.valueIn(other));
+    phone.setIn(other, "0000");
+    assertEquals("0000", other.customer.phone);
+
+    // only found in the class of the value
+    order.owner = order.customer;
+    TestScenario.given(element("owner.phone").in(Order.class))
+        .it(should(be(NULL)));
+    TestScenario.given(element("owner.phone").in(order))
+        .it(should(be(specific())))
+        .the(value(), should(be("1234")));
+    TestScenario.given(element("owner.level").in(order))
+        .it(should(be(specific())))
+        .the(value(), should(be(NULL)));
+  }
+
+  @Test
+  public void testPathEvaluation() {
+    CountingOrder order = new CountingOrder();
+    order.customer = new Customer();
+    order.customer.phone = "1234";
+    Element phone = element("customer.phone").in(order);
+    int reads = order.reads;
+    for (int i = 0; i < 3; i++) {
+      assertEquals("1234", phone.value());
+    }
+    // the path is evaluated only once for each value
+    assertEquals(reads + 3, order.reads);
+
+    Order vip = new Order();
+    vip.customer = new VipCustomer();
+    vip.customer.phone = "5678";
+    Element orderPhone = element("customer.phone").in(Order.class);
+    Order other = new Order();
+    other.customer = new Customer();
+    other.customer.phone = "0000";
+    for (int i = 0; i < 3; i++) {
+      assertEquals("5678", orderPhone.valueIn(vip));
+      assertEquals("0000", orderPhone.valueIn(other));
+    }
+
+    order.customer = null;
+    TestScenario.given(element("customer.phone").in(order))
+        .it(should(notBe(specific())));
+  }
+
+  // loads its own copy of a class, delegating the others to the parent
+  static class IsolatedLoader extends ClassLoader {
+
+    private final String isolated;
+
+    IsolatedLoader(Class<?> type) {
+      super(type.getClassLoader());
+      this.isolated = type.getName();
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve)
+        throws ClassNotFoundException {
+      if (!name.equals(isolated)) {
+        return super.loadClass(name, resolve);
+      }
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> type = findLoadedClass(name);
+        if (type == null) {
+          String resource = name.replace('.', '/') + ".class";
+          try (InputStream in = getParent().getResourceAsStream(resource)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = in.read(buffer)) > 0) {
+              out.write(buffer, 0, read);
+            }
+            byte[] bytes = out.toByteArray();
+            type = defineClass(name, bytes, 0, bytes.length);
+          } catch (IOException e) {
+            throw new ClassNotFoundException(name, e);
+          }
+        }
+        return type;
+      }
+    }
+
+  }
+
+  public static class Contact {
+    private String phone;
+  }
+
+  public static class ExternalContact extends Contact {
+  }
+
+  static class Agenda {
+    private Contact contact;
+  }
+
+  @Test
+  public void testValuesFromOtherLoaders() throws Exception {
+    Class<?> isolated = new IsolatedLoader(ExternalContact.class)
+        .loadClass(ExternalContact.class.getName());
+    assertNotSame(ExternalContact.class, isolated);
+    Element phone = element("contact.phone").in(Agenda.class);
+    for (int i = 0; i < 3; i++) {
+      Agenda agenda = new Agenda();
+      agenda.contact = (Contact) isolated.newInstance();
+      agenda.contact.phone = "phone" + i;
+      assertEquals("phone" + i, phone.valueIn(agenda));
+      phone.setIn(agenda, "other");
+      assertEquals("other", agenda.contact.phone);
+    }
+  }
+
 }
@@ -20,8 +20,20 @@ package tools.devnull.trugger.element;
 import org.junit.Test;
 import tools.devnull.kodo.TestScenario;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.Finder;
 import tools.devnull.trugger.HandlingException;
+import tools.devnull.trugger.element.impl.ObjectElementFinder;
+import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.util.cache.ClassCache;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.*;
 import static tools.devnull.kodo.Spec.*;
 import static tools.devnull.trugger.element.ElementPredicates.*;
 import static tools.devnull.trugger.element.Elements.element;
@@ -125,4 +137,194 @@ public class ObjectElementTest implements ElementSpecs {
         .the(elementNamed("address"), should(be(ofType(String.class))));
   }
 
+  class PrimitiveTest {
+    private Integer count;
+    private String name = "name";
+    private Long total = 10L;
+    private Character letter = 'a';
+  }
+
+  @Test
+  public void testPrimitiveValues() {
+    PrimitiveTest object = new PrimitiveTest();
+    try {
+      element("count").in(object).intValue();
+      fail();
+    } catch (HandlingException e) {
+      assertTrue(e.getMessage().contains("count"));
+    }
+    TestScenario.given(element("name").in(object))
+        .then(element -> element.longValue(),
+            should(raise(HandlingException.class)));
+    object.count = 10;
+    assertEquals(10L, element("count").in(object).longValue());
+    assertEquals(10.0, element("count").in(object).doubleValue(), 0);
+    // only widening conversions are allowed
+    TestScenario.given(element("total").in(object))
+        .then(element -> element.intValue(),
+            should(raise(HandlingException.class)));
+    TestScenario.given(element("count").in(object))
+        .then(element -> element.shortValue(),
+            should(raise(HandlingException.class)));
+    assertEquals(10f, element("total").in(object).floatValue(), 0);
+    assertEquals('a', element("letter").in(object).intValue());
+    TestScenario.given(element("letter").in(object))
+        .then(element -> element.shortValue(),
+            should(raise(HandlingException.class)));
+  }
+
+  public static class PairingBase {
+
+    public String getCode() {
+      return "base";
+    }
+
+    public void setLabel(String label) {
+    }
+
+  }
+
+  public static class PairingTest extends PairingBase {
+
+    private String code;
+    private String label;
+    private Integer count;
+
+    public void setCode(String code) {
+      this.code = code;
+    }
+
+    public String getLabel() {
+      return label;
+    }
+
+    public void setCount(int count) {
+    }
+
+  }
+
+  @Test
+  public void testPairing() {
+    TestScenario.given(PairingTest.class)
+        .the(elementNamed("code"), should(be(readable())))
+        .the(elementNamed("code"), should(be(writable())))
+        .the(elementNamed("label"), should(be(readable())))
+        .the(elementNamed("label"), should(be(writable())))
+        .the(elementNamed("count"), should(be(ofType(Integer.class))));
+
+    PairingTest object = new PairingTest();
+    assertEquals("base", element("code").in(object).value());
+    element("count").in(object).set(3);
+    assertEquals(3, (int) object.count);
+  }
+
+  @Test
+  public void testMergedElements() {
+    Finder<Element> finder = new ObjectElementFinder();
+    List<Element> elements = finder.findAll().in(PairingTest.class);
+    assertSame(elements, finder.findAll().in(PairingTest.class));
+
+    Set<String> names = new HashSet<>();
+    for (Element element : elements) {
+      assertTrue(names.add(element.name()));
+    }
+    assertTrue(names.containsAll(Arrays.asList("code", "label", "count")));
+    TestScenario.given(elements)
+        .then(list -> list.remove(0),
+            should(raise(UnsupportedOperationException.class)));
+
+    PairingTest object = new PairingTest();
+    object.label = "label";
+    for (Element element : finder.findAll().in(object)) {
+      if (element.name().equals("label")) {
+        assertEquals("label", element.value());
+      }
+    }
+  }
+
+  public static class AccessorTest {
+
+    private String name;
+    private int age;
+    private final String id = "id";
+    private long version;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public void setAge(int age) {
+      if (age < 0) {
+        throw new IllegalArgumentException();
+      }
+      this.age = age;
+    }
+
+  }
+
+  @Test
+  public void testLinkedHandles() throws Exception {
+    // makes sure the invokers cache is registered
+    Reflection.invoke(AccessorTest.class.getMethod("getName"));
+    ClassCache<?> invokers = ClassCache.caches().stream()
+        .filter(cache -> cache.name().equals("method invokers"))
+        .findFirst()
+        .get();
+    Element name = new ObjectElementFinder().find("name").in(AccessorTest.class);
+    Element version =
+        new ObjectElementFinder().find("version").in(AccessorTest.class);
+    AccessorTest object = new AccessorTest();
+    long requests = invokers.stats().requestCount();
+    for (int i = 0; i < 3; i++) {
+      name.setIn(object, "name" + i);
+      assertEquals("name" + i, name.valueIn(object));
+      version.setIn(object, (long) i);
+      assertEquals((long) i, (long) version.valueIn(object));
+    }
+    // the elements use their own handles instead of the invokers
+    assertEquals(requests, invokers.stats().requestCount());
+    TestScenario.given(name)
+        .then(element -> element.setIn(new Object(), "name"),
+            should(raise(HandlingException.class)));
+  }
+
+  @Test
+  public void testGeneratedAccessors() {
+    Finder<Element> finder = new ObjectElementFinder(true);
+    AccessorTest object = new AccessorTest();
+
+    finder.find("name").in(object).set("trugger");
+    finder.find("age").in(object).set(5);
+    finder.find("version").in(object).set(10L);
+    assertEquals("trugger", object.name);
+    assertEquals(5, object.age);
+    assertEquals(10L, object.version);
+    assertEquals("trugger", finder.find("name").in(object).value());
+    assertEquals(5, (int) finder.find("age").in(object).value());
+    assertEquals(10L, (long) finder.find("version").in(object).value());
+    assertEquals("id", finder.find("id").in(object).value());
+
+    Map<String, Object> values = new HashMap<>();
+    for (Element element : finder.findAll().in(object)) {
+      values.put(element.name(), element.value());
+    }
+    assertEquals("trugger", values.get("name"));
+    assertEquals(5, values.get("age"));
+    assertEquals(10L, values.get("version"));
+    assertEquals("id", values.get("id"));
+
+    TestScenario.given(finder.find("id").in(object))
+        .then(attempToChangeValue(), should(raise(UnwritableElementException.class)));
+    TestScenario.given(finder.find("age").in(object))
+        .then(element -> element.set(-1), should(raise(HandlingException.class)));
+  }
+
 }
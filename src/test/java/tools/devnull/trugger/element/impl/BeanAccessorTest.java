@@ -0,0 +1,84 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.element.impl;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class BeanAccessorTest {
+
+  public static class Bean {
+
+    private String name;
+    private long version;
+    private final String id = "id";
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
+  @Test
+  public void testLinkedAccessors() throws Exception {
+    ObjectElement name = new ObjectElement(Bean.class.getDeclaredField("name"));
+    ObjectElement version =
+        new ObjectElement(Bean.class.getDeclaredField("version"));
+    ObjectElement id = new ObjectElement(Bean.class.getDeclaredField("id"));
+    BeanAccessor accessor = BeanAccessor.attach(
+        Arrays.asList(name, version, id));
+
+    // public getter and setter
+    assertTrue(accessor.canGet(0));
+    assertTrue(accessor.canSet(0));
+    // private field
+    assertTrue(accessor.canGet(1));
+    assertTrue(accessor.canSet(1));
+    // final field
+    assertTrue(accessor.canGet(2));
+    assertFalse(accessor.canSet(2));
+
+    Bean bean = new Bean();
+    accessor.set(bean, 0, "trugger");
+    accessor.set(bean, 1, 10L);
+    assertEquals("trugger", bean.name);
+    assertEquals(10L, bean.version);
+    assertEquals("trugger", accessor.get(bean, 0));
+    assertEquals(10L, accessor.get(bean, 1));
+    assertEquals("id", accessor.get(bean, 2));
+  }
+
+  @Test
+  public void testGeneratedAccessorsAreReused() throws Exception {
+    ObjectElement name = new ObjectElement(Bean.class.getDeclaredField("name"));
+    ObjectElement other =
+        new ObjectElement(Bean.class.getDeclaredField("name"));
+    assertSame(BeanAccessor.getterFor(name, true),
+        BeanAccessor.getterFor(other, true));
+    assertSame(BeanAccessor.setterFor(name, true),
+        BeanAccessor.setterFor(other, true));
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import org.junit.Test;
+import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.element.Element;
+import tools.devnull.trugger.element.Elements;
+import tools.devnull.trugger.validation.ValidatorClass;
+import tools.devnull.trugger.validation.validator.NotNull;
+import tools.devnull.trugger.validation.validator.NotNullValidator;
+
+import javax.annotation.Resource;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.junit.Assert.*;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
+
+public class AnnotationIndexTest {
+
+  @Flag
+  static class Entity {
+
+    @NotNull
+    @Resource
+    @Flag
+    private String name;
+
+    private String description;
+
+  }
+
+  @Test
+  public void testClassIndex() {
+    AnnotationIndex index = AnnotationIndex.of(Entity.class);
+    assertSame(index, AnnotationIndex.of(Entity.class));
+    assertTrue(index.isPresent(Flag.class));
+    assertFalse(index.isPresent(Resource.class));
+    assertSame(Entity.class.getAnnotation(Flag.class), index.get(Flag.class));
+    assertNull(index.get(Resource.class));
+  }
+
+  @Test
+  public void testMemberIndex() throws Exception {
+    Field field = Entity.class.getDeclaredField("name");
+    AnnotationIndex index = AnnotationIndex.of(field);
+    assertSame(index, AnnotationIndex.of(Entity.class.getDeclaredField("name")));
+    assertEquals(3, index.annotations().size());
+    assertTrue(index.isPresent(NotNull.class));
+    assertTrue(index.isPresent(Resource.class));
+    assertEquals(field.getAnnotation(Resource.class), index.get(Resource.class));
+
+    AnnotationIndex empty = AnnotationIndex.of(
+        Entity.class.getDeclaredField("description"));
+    assertTrue(empty.annotations().isEmpty());
+    assertFalse(empty.isPresent(Flag.class));
+    assertTrue(empty.annotatedWith(ValidatorClass.class).isEmpty());
+  }
+
+  @Test
+  public void testElementIndex() throws Exception {
+    AnnotationIndex index = AnnotationIndex.of(
+        Entity.class.getDeclaredField("name"));
+    Element element = Elements.element("name").in(Entity.class);
+    assertSame(index, AnnotationIndex.of(element));
+    assertSame(index, AnnotationIndex.of(
+        Elements.element("name").in(new Entity())));
+
+    Element nested = Elements.element("name.class").in(Entity.class);
+    AnnotationIndex nestedIndex = AnnotationIndex.of(nested);
+    assertSame(nestedIndex, AnnotationIndex.of(nested));
+  }
+
+  @Test
+  public void testMetaAnnotations() throws Exception {
+    Field field = Entity.class.getDeclaredField("name");
+    List<Annotation> constraints = AnnotationIndex.of(field)
+        .annotatedWith(ValidatorClass.class);
+    assertEquals(1, constraints.size());
+    assertEquals(NotNull.class, constraints.get(0).annotationType());
+    assertSame(constraints, AnnotationIndex.of(field)
+        .annotatedWith(ValidatorClass.class));
+    assertEquals(NotNullValidator.class, AnnotationIndex.of(NotNull.class)
+        .get(ValidatorClass.class).value());
+    assertThrow(UnsupportedOperationException.class,
+        () -> constraints.add(constraints.get(0)));
+  }
+
+}
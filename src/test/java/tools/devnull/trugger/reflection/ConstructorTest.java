@@ -43,6 +43,39 @@ public class ConstructorTest {
 
   }
 
+  public static class Point {
+
+    private final long x;
+    private final long y;
+    private final String label;
+
+    public Point(long x, long y) {
+      this(x, y, null);
+    }
+
+    public Point(long x, long y, String label) {
+      this.x = x;
+      this.y = y;
+      this.label = label;
+    }
+
+    private Point(String label) {
+      this(0, 0, label);
+    }
+
+    public Point(long x, long y, long z, String label) {
+      this(x + z, y + z, label);
+    }
+
+  }
+
+  public static abstract class AbstractObject {
+
+    public AbstractObject() {
+    }
+
+  }
+
   @Test
   public void testNotDeclaredConstructor() {
     assertNotNull(
@@ -84,4 +117,54 @@ public class ConstructorTest {
     }
   }
 
+  @Test
+  public void testInvokerWithArguments() {
+    Constructor<?> constructor = reflect().constructor()
+        .withParameters(long.class, long.class)
+        .in(Point.class);
+    Point point = invoke(constructor).withArgs(1, 'a');
+    assertEquals(1, point.x);
+    assertEquals(97, point.y);
+
+    constructor = reflect().constructor()
+        .withParameters(long.class, long.class, long.class, String.class)
+        .in(Point.class);
+    point = invoke(constructor).withArgs(1L, 2L, 3L, "point");
+    assertEquals(4, point.x);
+    assertEquals(5, point.y);
+    assertEquals("point", point.label);
+
+    constructor = reflect().constructor()
+        .withParameters(String.class)
+        .in(Point.class);
+    point = invoke(constructor).withArgs("private");
+    assertEquals("private", point.label);
+  }
+
+  @Test
+  public void testInvokerWithIllegalArguments() {
+    Constructor<?> constructor = reflect().constructor()
+        .withParameters(long.class, long.class, String.class)
+        .in(Point.class);
+    assertThrow(ReflectionException.class,
+        () -> invoke(constructor).withArgs(1, 2.0, "point")
+    );
+    assertThrow(ReflectionException.class,
+        () -> invoke(constructor).withArgs(1, 2)
+    );
+    try {
+      invoke(constructor).withArgs(1, null, "point");
+    } catch (ReflectionException e) {
+      assertTrue(IllegalArgumentException.class.equals(e.getCause().getClass()));
+    }
+  }
+
+  @Test
+  public void testAbstractClass() {
+    Constructor<?> constructor = reflect().constructor().in(AbstractObject.class);
+    assertThrow(ReflectionException.class,
+        () -> invoke(constructor).withoutArgs()
+    );
+  }
+
 }
@@ -18,7 +18,12 @@ package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.selector.ConstructorsSelector;
 
+import java.lang.reflect.Constructor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static org.junit.Assert.assertEquals;
@@ -75,4 +80,36 @@ public class ConstructorsSelectorTest {
     );
   }
 
+  @Test
+  public void testBulkSelection() {
+    assertEquals(
+        1,
+        reflect().visible().constructors()
+            .inAll(Arrays.asList(TestObject.class, Object.class), 2)
+            .get(TestObject.class).size()
+    );
+  }
+
+  @Test
+  public void testDefaultBulkSelection() {
+    ConstructorsSelector delegate = reflect().constructors();
+    ConstructorsSelector selector = new ConstructorsSelector() {
+      @Override
+      public ConstructorsSelector filter(
+          Predicate<? super Constructor<?>> predicate) {
+        return this;
+      }
+
+      @Override
+      public List<Constructor<?>> in(Object target) {
+        return delegate.in(target);
+      }
+    };
+    Map<Class<?>, List<Constructor<?>>> result = selector
+        .inAll(Arrays.asList(TestObject.class, Object.class), 2);
+    assertEquals(2, result.size());
+    assertEquals(2, result.get(TestObject.class).size());
+    assertEquals(1, result.get(Object.class).size());
+  }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import org.junit.Test;
+import tools.devnull.trugger.reflection.impl.FieldLayout;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
+import static tools.devnull.trugger.reflection.Reflection.shallowClone;
+import static tools.devnull.trugger.reflection.Reflection.shallowCopy;
+
+public class FieldLayoutTest {
+
+  static class Base {
+
+    static int counter;
+
+    private final String id;
+    protected long version;
+
+    Base() {
+      this.id = "default";
+    }
+
+    Base(String id) {
+      this.id = id;
+    }
+
+  }
+
+  static class Sample extends Base {
+
+    private int number;
+    private boolean flag;
+    private char letter;
+    private double ratio;
+    private byte small;
+    private short medium;
+    private float real;
+    private int[] values;
+    private String name;
+
+    Sample() {
+    }
+
+    Sample(String id) {
+      super(id);
+    }
+
+  }
+
+  static class NoDefaultConstructor {
+
+    NoDefaultConstructor(String value) {
+    }
+
+  }
+
+  private Sample sample() {
+    Sample sample = new Sample("sample");
+    sample.version = 10L;
+    sample.number = 42;
+    sample.flag = true;
+    sample.letter = 'x';
+    sample.ratio = 0.5;
+    sample.small = 3;
+    sample.medium = 300;
+    sample.real = 1.5f;
+    sample.values = new int[]{1, 2, 3};
+    sample.name = "name";
+    return sample;
+  }
+
+  private void assertCopied(Sample expected, Sample actual) {
+    assertEquals(expected.version, actual.version);
+    assertEquals(expected.number, actual.number);
+    assertEquals(expected.flag, actual.flag);
+    assertEquals(expected.letter, actual.letter);
+    assertEquals(expected.ratio, actual.ratio, 0);
+    assertEquals(expected.small, actual.small);
+    assertEquals(expected.medium, actual.medium);
+    assertEquals(expected.real, actual.real, 0);
+    assertSame(expected.values, actual.values);
+    assertEquals(expected.name, actual.name);
+  }
+
+  @Test
+  public void testLayout() {
+    FieldLayout layout = FieldLayout.of(Sample.class);
+    assertSame(layout, FieldLayout.of(Sample.class));
+    assertEquals(11, layout.fields().size());
+    assertEquals(Sample.class, layout.fields().get(0).getDeclaringClass());
+    assertTrue(layout.hasFinalFields());
+    assertFalse(FieldLayout.of(NoDefaultConstructor.class).hasFinalFields());
+  }
+
+  @Test
+  public void testShallowCopy() {
+    Sample sample = sample();
+    Sample copy = new Sample("copy");
+    shallowCopy(sample, copy);
+    assertCopied(sample, copy);
+    assertEquals("sample", ((Base) copy).id);
+
+    assertThrow(IllegalArgumentException.class,
+        () -> shallowCopy(sample, new Base()));
+    assertThrow(IllegalArgumentException.class,
+        () -> FieldLayout.of(Sample.class).copy(sample, new Base()));
+  }
+
+  @Test
+  public void testCopyNotNull() {
+    Sample sample = new Sample();
+    sample.number = 5;
+    Sample dest = sample();
+    FieldLayout.of(Sample.class).copy(sample, dest, false);
+    assertEquals(5, dest.number);
+    assertEquals("name", dest.name);
+    assertTrue(Arrays.equals(new int[]{1, 2, 3}, dest.values));
+  }
+
+  @Test
+  public void testShallowClone() {
+    Sample sample = sample();
+    Sample clone = shallowClone(sample);
+    assertNotSame(sample, clone);
+    assertCopied(sample, clone);
+    assertEquals("sample", ((Base) clone).id);
+
+    assertThrow(ReflectionException.class,
+        () -> shallowClone(new NoDefaultConstructor("value")));
+  }
+
+}
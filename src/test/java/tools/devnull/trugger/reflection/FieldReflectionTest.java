@@ -19,9 +19,12 @@ package tools.devnull.trugger.reflection;
 import org.junit.Before;
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.HandlingException;
 import tools.devnull.trugger.ValueHandler;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import static org.junit.Assert.*;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
 import static tools.devnull.trugger.reflection.FieldPredicates.*;
 import static tools.devnull.trugger.reflection.Reflection.field;
 import static tools.devnull.trugger.reflection.Reflection.handle;
@@ -42,6 +45,9 @@ public class FieldReflectionTest {
   private int x;
   private int y;
   private Integer z;
+  private long count;
+  private double ratio;
+  private boolean active;
 
   @Before
   public void initialize() {
@@ -59,6 +65,74 @@ public class FieldReflectionTest {
     assertEquals("string", handler.value());
   }
 
+  @Test
+  public void testPrimitiveHandler() {
+    ValueHandler handler = handle(field("x")).in(this);
+    handler.setInt(10);
+    assertEquals(10, x);
+    assertEquals(10, handler.intValue());
+    assertEquals(10L, handler.longValue());
+
+    handle(field("count")).in(this).setLong(20L);
+    assertEquals(20L, count);
+    handle(field("count")).in(this).setInt(30);
+    assertEquals(30L, handle(field("count")).in(this).longValue());
+
+    handle(field("ratio")).in(this).setDouble(0.5);
+    assertEquals(0.5, handle(field("ratio")).in(this).doubleValue(), 0);
+
+    handle(field("active")).in(this).setBoolean(true);
+    assertTrue(handle(field("active")).in(this).booleanValue());
+
+    ValueHandler fieldHandler = handle(field("y").in(this)).in(this);
+    fieldHandler.setInt(5);
+    assertEquals(5, y);
+    assertEquals(5, fieldHandler.intValue());
+
+    assertThrow(HandlingException.class,
+        () -> handle(field("count")).in(this).intValue());
+    assertThrow(HandlingException.class,
+        () -> handle(field("a")).in(this).setInt(1));
+  }
+
+  static class Counter {
+    private int count;
+  }
+
+  static class OtherCounter {
+    private long count = 10;
+  }
+
+  @Test
+  public void testPolymorphicHandler() {
+    FieldHandler handler = handle(field("count"));
+    Counter counter = new Counter();
+    OtherCounter otherCounter = new OtherCounter();
+    for (int i = 0; i < 3; i++) {
+      handler.in(counter).setInt(handler.in(counter).intValue() + 1);
+      assertEquals(10L + i, (long) handler.in(otherCounter).value());
+      handler.in(otherCounter).setLong(11L + i);
+    }
+    assertEquals(3, counter.count);
+    assertEquals(13L, otherCounter.count);
+  }
+
+  @Test
+  public void testFilteredHandlersAreNotShared() {
+    handle(field("count")).in(new Counter()).value();
+    ClassCache<?> table = ClassCache.caches().stream()
+        .filter(cache -> cache.name().equals("selected fields"))
+        .findFirst()
+        .get();
+    long requests = table.stats().requestCount();
+    for (int i = 0; i < 5; i++) {
+      handle(field("count").filter(field -> true)).in(new Counter()).value();
+    }
+    assertEquals(requests, table.stats().requestCount());
+    handle(field("count")).in(new Counter()).value();
+    assertEquals(requests + 1, table.stats().requestCount());
+  }
+
   @Test
   public void testPredicates() {
     assertTrue(
@@ -18,8 +18,12 @@ package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.Result;
+import tools.devnull.trugger.TruggerTest;
 
 import javax.annotation.Resource;
+import java.lang.reflect.Field;
+import java.util.List;
 
 import static org.junit.Assert.*;
 import static tools.devnull.trugger.reflection.Reflection.reflect;
@@ -50,6 +54,18 @@ public class FieldsSelectorTest {
     );
   }
 
+  @Test
+  public void testCompiledSelector() {
+    Result<List<Field>, Object> annotated = reflect().fields()
+        .filter(FieldPredicates.annotatedWith(Resource.class)).compile();
+    List<Field> fields = annotated.in(TestObject.class);
+    assertEquals(2, fields.size());
+    assertSame(fields, annotated.in(new TestObject()));
+    assertEquals(0, annotated.in(this).size());
+    TruggerTest.assertThrow(UnsupportedOperationException.class,
+        () -> fields.clear());
+  }
+
   static class BaseClassTest {
     int i;
   }
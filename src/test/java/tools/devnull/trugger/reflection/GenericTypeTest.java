@@ -65,6 +65,9 @@ public class GenericTypeTest {
     assertTrue(bridgeMethod.isBridge());
 
     assertEquals(bridgedMethod, reflect().bridgedMethodFor(bridgeMethod));
+    assertSame(reflect().bridgedMethodFor(bridgeMethod),
+        reflect().bridgedMethodFor(bridgeMethod));
+    assertSame(bridgedMethod, reflect().bridgedMethodFor(bridgedMethod));
   }
 
   @Test
@@ -18,12 +18,17 @@
 package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
+import tools.devnull.trugger.reflection.impl.CachedMemberFindersRegistry;
 import tools.devnull.trugger.reflection.impl.DeclaredMemberFindersRegistry;
 import tools.devnull.trugger.reflection.impl.MemberFindersRegistry;
 import tools.devnull.trugger.reflection.impl.VisibleMemberFindersRegistry;
 
+import java.lang.reflect.Field;
+import java.util.List;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 /** @author Marcelo Varella Barca Guimarães */
 public class MemberFindersRegistryTest {
@@ -61,6 +66,15 @@ public class MemberFindersRegistryTest {
 
   }
 
+  static class SubClass extends TestClass {
+
+    private int subclassField;
+
+    public void foo() {
+    }
+
+  }
+
   private MemberFindersRegistry declared = new DeclaredMemberFindersRegistry();
   private MemberFindersRegistry visible = new VisibleMemberFindersRegistry();
 
@@ -160,4 +174,91 @@ public class MemberFindersRegistryTest {
     visible.methodFinder("foo", boolean.class).find(TestClass.class);
   }
 
+  @Test
+  public void testCachedRegistry() throws Exception {
+    MemberFindersRegistry cachedDeclared =
+        new CachedMemberFindersRegistry(declared);
+    MemberFindersRegistry cachedVisible =
+        new CachedMemberFindersRegistry(visible);
+
+    assertEquals(4, cachedDeclared.fieldsFinder().find(TestClass.class).size());
+    assertEquals(1, cachedVisible.fieldsFinder().find(TestClass.class).size());
+    assertEquals(4, cachedDeclared.methodsFinder().find(TestClass.class).size());
+    assertEquals(10, cachedVisible.methodsFinder().find(TestClass.class).size());
+    assertEquals(4,
+        cachedDeclared.constructorsFinder().find(TestClass.class).size());
+    assertEquals(1,
+        cachedVisible.constructorsFinder().find(TestClass.class).size());
+
+    assertEquals(declared.fieldFinder("privateField").find(TestClass.class),
+        cachedDeclared.fieldFinder("privateField").find(TestClass.class));
+    assertEquals(declared.methodFinder("foo", int.class).find(TestClass.class),
+        cachedDeclared.methodFinder("foo", int.class).find(TestClass.class));
+    assertEquals(declared.constructorFinder().find(TestClass.class),
+        cachedDeclared.constructorFinder().find(TestClass.class));
+  }
+
+  @Test
+  public void testCachedRegistrySharesMembers() throws Exception {
+    MemberFindersRegistry cached = new CachedMemberFindersRegistry(declared);
+    List<Field> fields = cached.fieldsFinder().find(TestClass.class);
+    assertSame(fields, cached.fieldsFinder().find(TestClass.class));
+    assertSame(fields.get(0), cached.fieldsFinder().find(TestClass.class).get(0));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCachedRegistryImmutability() throws Exception {
+    new CachedMemberFindersRegistry(declared).fieldsFinder()
+        .find(TestClass.class).clear();
+  }
+
+  @Test(expected = NoSuchFieldException.class)
+  public void testPrivateFieldOnCachedVisibleFinder() throws Exception {
+    new CachedMemberFindersRegistry(visible).fieldFinder("privateField")
+        .find(TestClass.class);
+  }
+
+  @Test(expected = NoSuchMethodException.class)
+  public void testPrivateMethodOnCachedVisibleFinder() throws Exception {
+    new CachedMemberFindersRegistry(visible).methodFinder("foo", int.class)
+        .find(TestClass.class);
+  }
+
+  @Test(expected = NoSuchMethodException.class)
+  public void testPrivateConstructorOnCachedVisibleFinder() throws Exception {
+    new CachedMemberFindersRegistry(visible).constructorFinder(int.class)
+        .find(TestClass.class);
+  }
+
+  @Test
+  public void testMethodsByName() throws Exception {
+    MemberFindersRegistry cached = new CachedMemberFindersRegistry(declared);
+    assertEquals(4, declared.methodsFinder("foo").find(TestClass.class).size());
+    assertEquals(4, cached.methodsFinder("foo").find(TestClass.class).size());
+    assertEquals(declared.methodsFinder("foo").find(TestClass.class),
+        cached.methodsFinder("foo").find(TestClass.class));
+    assertEquals(0, cached.methodsFinder("bar").find(TestClass.class).size());
+    assertEquals(1, new CachedMemberFindersRegistry(visible)
+        .methodsFinder("foo").find(TestClass.class).size());
+  }
+
+  @Test
+  public void testHierarchy() throws Exception {
+    MemberFindersRegistry cached = new CachedMemberFindersRegistry(declared);
+
+    List<Field> fields = cached.fieldsFinder().hierarchy().find(SubClass.class);
+    assertEquals(5, fields.size());
+    assertEquals("subclassField", fields.get(0).getName());
+    assertEquals(declared.fieldsFinder().hierarchy().find(SubClass.class),
+        fields);
+    assertSame(fields, cached.fieldsFinder().hierarchy().find(SubClass.class));
+
+    assertEquals(declared.methodsFinder().hierarchy().find(SubClass.class),
+        cached.methodsFinder().hierarchy().find(SubClass.class));
+    assertEquals(5, cached.methodsFinder("foo").hierarchy()
+        .find(SubClass.class).size());
+    assertEquals(SubClass.class, cached.methodsFinder("foo").hierarchy()
+        .find(SubClass.class).get(0).getDeclaringClass());
+  }
+
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import org.junit.Test;
+import tools.devnull.trugger.Flag;
+
+import javax.annotation.Resource;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+import static tools.devnull.trugger.reflection.Reflection.reflect;
+
+public class MemberMetadataTest {
+
+  static class Entity {
+
+    @Flag
+    private String name;
+    private boolean active;
+
+    @Flag
+    @Resource
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+
+    public void rename(String name) {
+      this.name = name;
+    }
+
+    public String toUpperCase() {
+      return name.toUpperCase();
+    }
+
+  }
+
+  @Test
+  public void testClassification() throws Exception {
+    Class<Entity> type = Entity.class;
+    assertTrue(MemberMetadata.isGetter(type.getMethod("getName")));
+    assertTrue(MemberMetadata.isGetter(type.getMethod("isActive")));
+    assertFalse(MemberMetadata.isGetter(type.getMethod("toUpperCase")));
+    assertTrue(MemberMetadata.isSetter(type.getMethod("setName", String.class)));
+    assertFalse(MemberMetadata.isSetter(type.getMethod("rename", String.class)));
+
+    assertEquals(2, reflect().methods()
+        .filter(MethodPredicates.getter()).in(type).size());
+    assertEquals(2, reflect().methods()
+        .filter(MethodPredicates.setter()).in(type).size());
+  }
+
+  @Test
+  public void testAnnotations() throws Exception {
+    Method getter = Entity.class.getMethod("getName");
+    Field field = Entity.class.getDeclaredField("name");
+    assertTrue(MemberMetadata.isAnnotationPresent(getter, Flag.class));
+    assertTrue(MemberMetadata.isAnnotationPresent(getter, Resource.class));
+    assertTrue(MemberMetadata.isAnnotationPresent(field, Flag.class));
+    assertFalse(MemberMetadata.isAnnotationPresent(field, Resource.class));
+    assertTrue(MemberMetadata.isAnnotated(field));
+    assertFalse(MemberMetadata.isAnnotated(
+        Entity.class.getDeclaredField("active")));
+    assertFalse(MemberMetadata.isAnnotationPresent(
+        Entity.class.getMethod("isActive"), Flag.class));
+  }
+
+  @Test
+  public void testParameterTypes() throws Exception {
+    Method setter = Entity.class.getMethod("setName", String.class);
+    Method rename = Entity.class.getMethod("rename", String.class);
+    assertSame(MemberMetadata.parameterTypesOf(setter),
+        MemberMetadata.parameterTypesOf(rename));
+    assertSame(MemberMetadata.parameterTypesOf(setter),
+        MemberMetadata.parameterTypesOf(
+            reflect().method("setName").in(Entity.class)));
+  }
+
+  @Test
+  public void testConsistency() {
+    for (Class<?> type : Arrays.asList(String.class, Thread.class,
+        Entity.class, MemberMetadata.class)) {
+      for (Method method : type.getDeclaredMethods()) {
+        assertArrayEquals(method.getParameterTypes(),
+            MemberMetadata.parameterTypesOf(method));
+        assertEquals(method.isAnnotationPresent(Deprecated.class),
+            MemberMetadata.isAnnotationPresent(method, Deprecated.class));
+        assertEquals(method.getDeclaredAnnotations().length > 0,
+            MemberMetadata.isAnnotated(method));
+      }
+    }
+  }
+
+}
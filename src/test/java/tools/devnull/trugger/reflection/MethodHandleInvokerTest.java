@@ -0,0 +1,114 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.reflection;
+
+import org.junit.Test;
+import tools.devnull.trugger.reflection.impl.MethodHandleInvoker;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+import static tools.devnull.trugger.reflection.Reflection.invoke;
+import static tools.devnull.trugger.reflection.Reflection.method;
+
+public class MethodHandleInvokerTest {
+
+  public static class TestObject {
+
+    private String name = "trugger";
+
+    public String getName() {
+      return name;
+    }
+
+    private long sum(long a, int b) {
+      return a + b;
+    }
+
+    public static String join(String... values) {
+      return String.join(",", values);
+    }
+
+    public void fail() {
+      throw new IllegalStateException();
+    }
+
+  }
+
+  @Test
+  public void testInstanceInvocation() {
+    Method getter = method("getName").in(TestObject.class);
+    assertEquals("trugger", invoke(getter).in(new TestObject()).withoutArgs());
+  }
+
+  @Test
+  public void testPrivateInvocationWithWidening() {
+    Method sum = method("sum").in(TestObject.class);
+    long result = invoke(sum).in(new TestObject()).withArgs(1, (short) 2);
+    assertEquals(3L, result);
+  }
+
+  @Test
+  public void testStaticVarargsInvocation() {
+    Method join = method("join").in(TestObject.class);
+    Object args = new String[]{"a", "b"};
+    assertEquals("a,b", invoke(join).withArgs(args));
+  }
+
+  @Test
+  public void testExceptionUnwrapping() {
+    Method fail = method("fail").in(TestObject.class);
+    try {
+      invoke(fail).in(new TestObject()).withoutArgs();
+      fail();
+    } catch (ReflectionException e) {
+      assertEquals(IllegalStateException.class, e.getCause().getClass());
+    }
+  }
+
+  @Test
+  public void testArgumentsMismatch() {
+    Method sum = method("sum").in(TestObject.class);
+    TestObject target = new TestObject();
+    assertIllegalArgument(() -> invoke(sum).in(target).withArgs(1));
+    assertIllegalArgument(() -> invoke(sum).in(target).withArgs(1, 2L));
+    assertIllegalArgument(() -> invoke(sum).in(target).withArgs(1, null));
+    assertIllegalArgument(() -> invoke(sum).in("other").withArgs(1, 2));
+  }
+
+  @Test(expected = ReflectionException.class)
+  public void testNullInstance() {
+    invoke(method("getName").in(TestObject.class)).withoutArgs();
+  }
+
+  @Test
+  public void testCache() {
+    Method getter = method("getName").in(TestObject.class);
+    assertSame(MethodHandleInvoker.of(getter), MethodHandleInvoker.of(getter));
+  }
+
+  private void assertIllegalArgument(Runnable command) {
+    try {
+      command.run();
+      fail();
+    } catch (ReflectionException e) {
+      assertEquals(IllegalArgumentException.class, e.getCause().getClass());
+    }
+  }
+
+}
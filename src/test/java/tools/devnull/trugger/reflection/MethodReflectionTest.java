@@ -18,10 +18,18 @@ package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.Invoker;
 
+import java.lang.reflect.Proxy;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.*;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
 import static tools.devnull.trugger.reflection.MethodPredicates.annotated;
 import static tools.devnull.trugger.reflection.MethodPredicates.annotatedWith;
 import static tools.devnull.trugger.reflection.Reflection.invoke;
@@ -72,6 +80,171 @@ public class MethodReflectionTest {
     invoke(method("notDeclared")).in(obj).withoutArgs();
   }
 
+  static class Named {
+
+    private final String name;
+
+    Named(String name) {
+      this.name = name;
+    }
+
+    public String name() {
+      return name;
+    }
+
+  }
+
+  static class OtherNamed extends Named {
+
+    OtherNamed() {
+      super("other");
+    }
+
+    public String name() {
+      return "overridden";
+    }
+
+  }
+
+  @Test
+  public void polymorphicInvokerTest() {
+    MethodInvoker invoker = invoke(method("toString").withoutParameters());
+    Object[] targets = {"a", 1, 2L, 'c', 1.5, true, "b"};
+    for (Object target : targets) {
+      assertEquals(target.toString(), invoker.in(target).withoutArgs());
+    }
+
+    MethodInvoker name = invoke(method("name"));
+    for (int i = 0; i < 3; i++) {
+      assertEquals("named", name.in(new Named("named")).withoutArgs());
+      assertEquals("overridden", name.in(new OtherNamed()).withoutArgs());
+      assertEquals("named",
+          invoke(method("name")).in(new Named("named")).withoutArgs());
+    }
+  }
+
+  static class Rules {
+
+    public String apply(long value) {
+      return "long";
+    }
+
+    public String apply(double value) {
+      return "double";
+    }
+
+    public String apply(Object value) {
+      return "Object";
+    }
+
+    public String apply(CharSequence value) {
+      return "CharSequence";
+    }
+
+    public String apply(Number a, Number b) {
+      return "Number,Number";
+    }
+
+    public String apply(Integer a, Number b) {
+      return "Integer,Number";
+    }
+
+    public String apply(Number a, Integer b) {
+      return "Number,Integer";
+    }
+
+  }
+
+  static class ExtendedRules extends Rules {
+
+    @Override
+    public String apply(CharSequence value) {
+      return "ExtendedCharSequence";
+    }
+
+    public String apply(String value) {
+      return "String";
+    }
+
+  }
+
+  @Test
+  public void overloadResolutionTest() {
+    Invoker invoker = invoke(method("apply")).in(new Rules());
+    assertEquals("CharSequence", invoker.withArgs("text"));
+    assertEquals("CharSequence", invoker.withArgs(new StringBuilder()));
+    assertEquals("Object", invoker.withArgs(new Object()));
+    // subtyping is preferred over unboxing
+    assertEquals("Object", invoker.withArgs(10));
+    assertEquals("Number,Number", invoker.withArgs(1L, 2L));
+    assertEquals("Integer,Number", invoker.withArgs(1, 2L));
+    assertEquals("Number,Integer", invoker.withArgs(1L, 2));
+    assertThrow(ReflectionException.class, () -> invoker.withArgs(1, 2));
+    assertThrow(ReflectionException.class, () -> invoker.withArgs(null));
+    assertThrow(ReflectionException.class,
+        () -> invoker.withArgs("a", "b", "c"));
+
+    Invoker extended = invoke(method("apply").deep())
+        .in(new ExtendedRules());
+    assertEquals("String", extended.withArgs("text"));
+    assertEquals("ExtendedCharSequence",
+        extended.withArgs(new StringBuilder()));
+    assertEquals("Object", extended.withArgs(1));
+    for (int i = 0; i < 3; i++) {
+      assertEquals("String", extended.withArgs("cached"));
+    }
+  }
+
+  @Test
+  public void ambiguousOverloadTest() {
+    Invoker invoker = invoke(method("apply")).in(new Rules());
+    try {
+      invoker.withArgs(1, 2);
+      fail();
+    } catch (ReflectionException e) {
+      String message = e.getCause().getMessage();
+      assertTrue(message.contains("Integer,java.lang.Number)"));
+      assertTrue(message.contains("Number,java.lang.Integer)"));
+      assertFalse(message.contains("Number,java.lang.Number)"));
+    }
+  }
+
+  @Test
+  public void overloadResolutionWithOtherLoaderTest() throws Exception {
+    Invoker invoker = invoke(method("apply")).in(new Rules());
+    try (URLClassLoader loader = new URLClassLoader(new URL[0])) {
+      // a class that Rules can't see
+      Object text = Proxy.newProxyInstance(loader,
+          new Class[]{CharSequence.class}, (proxy, method, args) -> null);
+      for (int i = 0; i < 3; i++) {
+        assertEquals("CharSequence", invoker.withArgs(text));
+      }
+    }
+  }
+
+  static class Primitives {
+
+    public String apply(long value) {
+      return "long";
+    }
+
+    public String apply(double value) {
+      return "double";
+    }
+
+  }
+
+  @Test
+  public void overloadResolutionWithUnboxingTest() {
+    Invoker invoker = invoke(method("apply")).in(new Primitives());
+    assertEquals("long", invoker.withArgs(1));
+    assertEquals("long", invoker.withArgs(1L));
+    assertEquals("long", invoker.withArgs('c'));
+    assertEquals("double", invoker.withArgs(1f));
+    assertEquals("double", invoker.withArgs(1.0));
+    assertThrow(ReflectionException.class, () -> invoker.withArgs(true));
+  }
+
   @Test
   public void predicatesTest() {
     assertFalse(
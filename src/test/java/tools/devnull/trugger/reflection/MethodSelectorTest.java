@@ -18,6 +18,7 @@ package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.Result;
 
 import java.lang.reflect.Method;
 
@@ -56,6 +57,19 @@ public class MethodSelectorTest {
     assertNotNull(reflect().method("toString").deep().in(obj));
   }
 
+  @Test
+  public void testCompiledSelector() {
+    Result<Method, Object> foo = reflect().method("foo").compile();
+    Method method = foo.in(TestObject.class);
+    assertNotNull(method);
+    assertSame(method, foo.in(new TestObject()));
+    assertNull(foo.in(Object.class));
+
+    Result<Method, Object> toString = reflect().method("toString").deep()
+        .filter(el -> el.getDeclaringClass() == Object.class).compile();
+    assertEquals(Object.class, toString.in(TestObject.class).getDeclaringClass());
+  }
+
   @Test
   public void testPredicateSelector() {
     assertNotNull(
@@ -18,8 +18,15 @@ package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
 import tools.devnull.trugger.Flag;
+import tools.devnull.trugger.selector.MethodsSelector;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
 import static tools.devnull.trugger.reflection.Reflection.reflect;
 
 /**
@@ -59,4 +66,26 @@ public class MethodsSelectorTest {
     );
   }
 
+  @Test
+  public void testBulkSelection() {
+    List<Class<?>> types = Arrays.asList(String.class, Integer.class,
+        Long.class, Object.class, Thread.class, Class.class, Math.class,
+        StringBuilder.class, Character.class, Boolean.class, Double.class,
+        Float.class, Short.class, Byte.class, Number.class, System.class,
+        Runtime.class, ClassLoader.class, Enum.class, TestObject.class);
+    MethodsSelector selector = reflect().methods()
+        .filter(method -> method.getParameterCount() == 0);
+    for (int parallelism : new int[]{1, 4}) {
+      Map<Class<?>, List<Method>> result = selector.inAll(types, parallelism);
+      assertEquals(types.size(), result.size());
+      for (Class<?> type : types) {
+        assertEquals(selector.in(type), result.get(type));
+      }
+    }
+    assertEquals(2, reflect().methods()
+        .inAll(Arrays.asList(TestObject.class)).get(TestObject.class).size());
+    assertThrow(IllegalArgumentException.class,
+        () -> selector.inAll(types, 0));
+  }
+
 }
@@ -17,14 +17,45 @@
 package tools.devnull.trugger.reflection;
 
 import org.junit.Test;
+import tools.devnull.trugger.reflection.impl.ReflectionWarmUp;
 import tools.devnull.trugger.reflection.impl.TruggerFieldsSelector;
+import tools.devnull.trugger.scan.classes.MyClass;
+import tools.devnull.trugger.scan.classes.pack.MyClass2;
+import tools.devnull.trugger.util.ClassBatch;
+import tools.devnull.trugger.util.cache.ClassCache;
 
+import java.io.Closeable;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Stack;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.Vector;
+import java.util.WeakHashMap;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static tools.devnull.trugger.TruggerTest.assertThrow;
 import static tools.devnull.trugger.reflection.Reflection.reflect;
@@ -137,4 +168,94 @@ public class ReflectionTests {
     assertEquals(4, interfaces.size());
   }
 
+  interface Resource extends Closeable {
+  }
+
+  static class Base implements Serializable {
+  }
+
+  static class Child extends Base implements Resource, Runnable {
+    public void close() {
+    }
+
+    public void run() {
+    }
+  }
+
+  @Test
+  public void testInterfacesOrder() {
+    List<Class> interfaces = reflect().interfaces().in(new Child());
+    assertEquals(Arrays.asList(Resource.class, Closeable.class,
+        AutoCloseable.class, Runnable.class, Serializable.class), interfaces);
+    assertSame(interfaces, reflect().interfaces().in(Child.class));
+    assertThrow(UnsupportedOperationException.class,
+        () -> interfaces.add(Cloneable.class));
+  }
+
+  @Test
+  public void testWarmUp() {
+    List<Class<?>> classes = Arrays.asList(String.class, HashMap.class,
+        ReflectionTests.class);
+    Map<Class<?>, Duration> timings = Reflection.warmUp(classes);
+    assertEquals(classes.size(), timings.size());
+    for (Class<?> type : classes) {
+      assertTrue(!timings.get(type).isNegative());
+    }
+
+    timings = Reflection.warmUp("tools.devnull.trugger.scan.classes");
+    assertTrue(timings.containsKey(MyClass.class));
+    assertTrue(timings.containsKey(MyClass2.class));
+
+    assertThrow(IllegalArgumentException.class, () -> Reflection.warmUp(
+        Collections.nCopies(ClassCache.DEFAULT_MAXIMUM_SIZE + 1,
+            String.class)));
+  }
+
+  @Test
+  public void testBatchWarmUp() {
+    List<Class<?>> classes = Arrays.asList(ArrayList.class, LinkedList.class,
+        TreeMap.class, TreeSet.class, HashSet.class, LinkedHashMap.class,
+        LinkedHashSet.class, ArrayDeque.class, PriorityQueue.class,
+        Vector.class, Stack.class, Hashtable.class, IdentityHashMap.class,
+        WeakHashMap.class, EnumMap.class, BitSet.class, Optional.class,
+        StringJoiner.class, UUID.class, Random.class);
+    assertTrue(classes.size() > 16);
+    ReflectionWarmUp.warmUp(Object.class);
+    ClassCache<?> interfaces = cache("interfaces");
+    ClassCache<?> annotations = cache("class annotations");
+    for (Class<?> type : classes) {
+      interfaces.invalidate(type);
+      annotations.invalidate(type);
+    }
+    long interfaceMisses = interfaces.stats().missCount();
+    long annotationMisses = annotations.stats().missCount();
+
+    // runs in parallel regardless of the available processors
+    Map<Class<?>, Class<?>> result = ClassBatch.apply(classes, type -> {
+      ReflectionWarmUp.warmUp(type);
+      return type;
+    }, 4);
+    assertEquals(classes.size(), result.size());
+    assertTrue(interfaces.stats().missCount()
+        >= interfaceMisses + classes.size());
+    assertEquals(annotationMisses + classes.size(),
+        annotations.stats().missCount());
+
+    interfaceMisses = interfaces.stats().missCount();
+    annotationMisses = annotations.stats().missCount();
+    for (Class<?> type : classes) {
+      reflect().interfaces().in(type);
+      AnnotationIndex.of(type);
+    }
+    assertEquals(interfaceMisses, interfaces.stats().missCount());
+    assertEquals(annotationMisses, annotations.stats().missCount());
+  }
+
+  private static ClassCache<?> cache(String name) {
+    return ClassCache.caches().stream()
+        .filter(cache -> cache.name().equals(name))
+        .findFirst()
+        .get();
+  }
+
 }
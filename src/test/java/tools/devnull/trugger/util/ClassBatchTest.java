@@ -0,0 +1,93 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ClassBatchTest {
+
+  private static final List<Class<?>> TYPES = Arrays.asList(
+      String.class, Integer.class, Long.class, Object.class, Thread.class,
+      Class.class, Math.class, StringBuilder.class, Character.class,
+      Boolean.class, Double.class, Float.class, Short.class, Byte.class,
+      Number.class, System.class, Runtime.class, ClassLoader.class,
+      Enum.class, Void.class, Iterable.class, Comparable.class,
+      CharSequence.class, Runnable.class, Cloneable.class,
+      AutoCloseable.class, Appendable.class, Readable.class,
+      StringBuffer.class, Process.class, ThreadGroup.class,
+      ThreadLocal.class, Throwable.class, Exception.class, Error.class,
+      RuntimeException.class, Package.class, StackTraceElement.class,
+      SecurityManager.class, Override.class);
+
+  @Test
+  public void testParallelism() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maximum = new AtomicInteger();
+    Map<Class<?>, String> result = ClassBatch.apply(TYPES, type -> {
+      int current = running.incrementAndGet();
+      maximum.accumulateAndGet(current, Math::max);
+      try {
+        Thread.sleep(1);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      running.decrementAndGet();
+      return type.getName();
+    }, 2);
+    assertEquals(TYPES.size(), result.size());
+    for (Class<?> type : TYPES) {
+      assertEquals(type.getName(), result.get(type));
+    }
+    assertTrue(maximum.get() <= 2);
+  }
+
+  @Test
+  public void testNestedBatch() throws Exception {
+    ForkJoinPool pool = new ForkJoinPool(2);
+    try {
+      Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+      Map<Class<?>, Boolean> result = pool.submit(() ->
+          ClassBatch.apply(TYPES, type -> {
+            pools.add(ForkJoinTask.getPool());
+            return true;
+          }, 4)).get();
+      assertEquals(TYPES.size(), result.size());
+      assertEquals(Collections.singleton(pool), pools);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidParallelism() {
+    ClassBatch.apply(TYPES, Class::getName, 0);
+  }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * Copyright 2009-2014 Marcelo Guimarães
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ *
+ * You may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *           http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tools.devnull.trugger.util;
+
+import org.junit.Test;
+import tools.devnull.trugger.util.cache.CacheStats;
+import tools.devnull.trugger.util.cache.ClassCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static tools.devnull.trugger.TruggerTest.assertThrow;
+import static tools.devnull.trugger.element.Elements.elements;
+import static tools.devnull.trugger.reflection.Reflection.reflect;
+
+public class ClassCacheTest {
+
+  private final AtomicInteger loads = new AtomicInteger();
+
+  private ClassCache<String> createCache(int maximumSize) {
+    return ClassCache.create("test", maximumSize, type -> {
+      loads.incrementAndGet();
+      return type.getSimpleName();
+    });
+  }
+
+  @Test
+  public void testStats() {
+    ClassCache<String> cache = createCache(10);
+    assertEquals("String", cache.get(String.class));
+    assertEquals("String", cache.get(String.class));
+    assertEquals("Integer", cache.get(Integer.class));
+
+    CacheStats stats = cache.stats();
+    assertEquals(2, loads.get());
+    assertEquals(1, stats.hitCount());
+    assertEquals(2, stats.missCount());
+    assertEquals(3, stats.requestCount());
+    assertEquals(0, stats.evictionCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testEviction() {
+    ClassCache<String> cache = createCache(2);
+    cache.get(String.class);
+    cache.get(Integer.class);
+    cache.get(Long.class);
+
+    assertEquals(2, cache.size());
+    assertEquals(1, cache.stats().evictionCount());
+
+    // the oldest entry was evicted
+    cache.get(String.class);
+    assertEquals(4, loads.get());
+  }
+
+  @Test
+  public void testInvalidation() {
+    ClassCache<String> cache = createCache(10);
+    cache.get(String.class);
+    cache.invalidate(String.class);
+    assertEquals(0, cache.size());
+    cache.get(String.class);
+    assertEquals(2, loads.get());
+    assertEquals(1, cache.size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+    cache.get(String.class);
+    assertEquals(3, loads.get());
+  }
+
+  @Test
+  public void testInvalidationBeforeEviction() {
+    ClassCache<String> cache = createCache(2);
+    for (int i = 0; i < 5; i++) {
+      cache.get(String.class);
+      cache.invalidate(String.class);
+    }
+    cache.get(String.class);
+    cache.get(Integer.class);
+    assertEquals(2, cache.size());
+    assertEquals(0, cache.stats().evictionCount());
+
+    // no stale entry evicts the recomputed value
+    cache.get(String.class);
+    assertEquals(7, loads.get());
+  }
+
+  @Test
+  public void testRegistry() {
+    ClassCache<String> cache = createCache(10);
+    assertTrue(ClassCache.caches().contains(cache));
+    assertThrow(UnsupportedOperationException.class,
+        () -> ClassCache.caches().clear());
+  }
+
+  @Test
+  public void testInvalidSize() {
+    assertThrow(IllegalArgumentException.class, () -> createCache(0));
+  }
+
+  @Test
+  public void testSingleFlightLoading() throws Exception {
+    int threads = 8;
+    CountDownLatch started = new CountDownLatch(1);
+    ClassCache<Object> cache = ClassCache.create("test", 10, type -> {
+      loads.incrementAndGet();
+      started.countDown();
+      try {
+        Thread.sleep(100);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new Object();
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        results.add(executor.submit(() -> cache.get(String.class)));
+      }
+      assertTrue(started.await(1, TimeUnit.SECONDS));
+      Object value = results.get(0).get();
+      for (Future<Object> result : results) {
+        assertSame(value, result.get());
+      }
+      assertEquals(1, loads.get());
+      assertEquals(1, cache.stats().missCount());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testLateRequests() throws Exception {
+    int threads = 8;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 0; round < 20; round++) {
+        AtomicInteger roundLoads = new AtomicInteger();
+        ClassCache<Object> cache = ClassCache.create("test", 10, type -> {
+          roundLoads.incrementAndGet();
+          try {
+            Thread.sleep(5);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return new Object();
+        });
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          long delay = i;
+          // the requests arrive before, during and after the load
+          results.add(executor.submit(() -> {
+            Thread.sleep(delay);
+            return cache.get(String.class);
+          }));
+        }
+        Object value = results.get(0).get();
+        for (Future<Object> result : results) {
+          assertSame(value, result.get());
+        }
+        assertEquals(1, roundLoads.get());
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().missCount());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  public void testFailedLoading() {
+    ClassCache<String> cache = ClassCache.create("test", 10, type -> {
+      if (loads.incrementAndGet() == 1) {
+        throw new IllegalStateException();
+      }
+      return type.getSimpleName();
+    });
+    assertThrow(IllegalStateException.class, () -> cache.get(String.class));
+    assertEquals("String", cache.get(String.class));
+    assertEquals(2, loads.get());
+  }
+
+  @Test
+  public void testRecursiveLoading() {
+    ClassCache<String>[] cache = new ClassCache[1];
+    cache[0] = ClassCache.create("test", 10, type -> cache[0].get(type));
+    assertThrow(IllegalStateException.class, () -> cache[0].get(String.class));
+  }
+
+  static class Generic<E> {
+  }
+
+  static class StringGeneric extends Generic<String> {
+  }
+
+  @Test
+  public void testTruggerCaches() {
+    reflect().fields().in(ClassCacheTest.class);
+    elements().in(ClassCacheTest.class);
+    assertEquals(String.class,
+        reflect().genericType("E").in(StringGeneric.class));
+    List<String> names = ClassCache.caches().stream()
+        .map(ClassCache::name)
+        .collect(Collectors.toList());
+    assertTrue(names.contains("member tables"));
+    assertTrue(names.contains("object elements"));
+    assertTrue(names.contains("type variables"));
+  }
+
+}
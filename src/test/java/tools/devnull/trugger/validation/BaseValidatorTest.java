@@ -21,6 +21,7 @@ import org.junit.Before;
 import tools.devnull.trugger.element.Element;
 import tools.devnull.trugger.element.Elements;
 import tools.devnull.trugger.reflection.Reflection;
+import tools.devnull.trugger.util.cache.ClassCache;
 
 import java.lang.annotation.Annotation;
 
@@ -82,8 +83,11 @@ public abstract class BaseValidatorTest<E extends Annotation> {
   }
 
   protected final void assertSharedValidator() {
-    assertSame(Validation.factory().create(constraint),
-        Validation.factory().create(constraint));
+    Validator shared = Validation.factory().create(constraint);
+    assertSame(shared, Validation.factory().create(constraint));
+    // evicting the cached metadata must not create another instance
+    ClassCache.caches().forEach(ClassCache::clear);
+    assertSame(shared, Validation.factory().create(constraint));
   }
 
 }